@@ -0,0 +1,90 @@
+package com.fastcampus.dmaker.reactive.benchmark;
+
+import com.fastcampus.dmaker.reactive.DmakerReactiveApplication;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 루트 프로젝트 RequestExecutionBenchmark 와 같은 부하(512 동시 요청, GET /developers 커서 페이지, 10만 건)를
+ * WebFlux + R2DBC 스택에 건다. 커넥션 풀 크기는 Hikari 기본값과 같은 10 으로 맞춘다.
+ * 반복마다 출력되는 [resource usage] 의 최대 스레드/커넥션 수를 서블릿 스택 결과와 비교한다.
+ * (./gradlew :dmaker-reactive:jmh -PjmhIncludes=ReactiveRequestExecution)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(512)
+@Fork(1)
+public class ReactiveRequestExecutionBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int POOL_SIZE = 10;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private ResourceUsageSampler sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DmakerReactiveApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties(
+                        "server.port=0",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///dmaker-bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "spring.r2dbc.pool.initial-size=" + POOL_SIZE,
+                        "spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                        "logging.level.root=WARN")
+                .run();
+        context.getBean(DatabaseClient.class)
+                .sql("insert into developer (developer_level, developer_skill_type, experience_years, member_id, "
+                        + "name, age, status_code, version, created_at, updated_at) "
+                        + "select 'JUNIOR', 'BACK_END', 2, 'member' || (x - 1), 'name' || (x - 1), 30, 'EMPLOYED', "
+                        + "0, now(), now() from system_range(1, " + ROWS + ")")
+                .then()
+                .block();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampling() {
+        ConnectionPool pool = context.getBean(ConnectionPool.class);
+        sampler = ResourceUsageSampler.start(() -> pool.getMetrics().map(PoolMetrics::acquiredSize).orElse(-1));
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSampling() {
+        sampler.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getDevelopersPage() throws IOException, InterruptedException {
+        long cursor = ThreadLocalRandom.current().nextInt(ROWS);
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create(baseUrl + "/developers?size=20&cursor=" + cursor)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
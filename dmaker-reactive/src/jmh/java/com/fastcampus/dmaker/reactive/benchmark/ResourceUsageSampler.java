@@ -0,0 +1,47 @@
+package com.fastcampus.dmaker.reactive.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 측정 구간 동안 JVM 스레드 수와 사용 중인 DB 커넥션 수의 최댓값을 5ms 간격으로 기록한다.
+ * 부하를 만드는 벤치마크 스레드도 같은 JVM 에 있으므로 스레드 수는 스택끼리의 차이로 비교한다.
+ */
+public class ResourceUsageSampler implements AutoCloseable {
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "resource-usage-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final IntSupplier connectionsInUse;
+    private volatile int peakThreads;
+    private volatile int peakConnections;
+
+    private ResourceUsageSampler(IntSupplier connectionsInUse) {
+        this.connectionsInUse = connectionsInUse;
+    }
+
+    public static ResourceUsageSampler start(IntSupplier connectionsInUse) {
+        ResourceUsageSampler sampler = new ResourceUsageSampler(connectionsInUse);
+        sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0, 5, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    private void sample() {
+        peakThreads = Math.max(peakThreads, threadMXBean.getThreadCount());
+        peakConnections = Math.max(peakConnections, connectionsInUse.getAsInt());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        System.out.printf("%n[resource usage] peak threads: %d, peak connections in use: %d%n",
+                peakThreads, peakConnections);
+    }
+}
@@ -0,0 +1,17 @@
+package com.fastcampus.dmaker.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * DMakerController 의 기본 다섯 API 를 WebFlux + R2DBC 로 제공한다. DTO/에러 코드/검증 규칙은 루트 프로젝트 것을 그대로 쓴다.
+ * (./gradlew :dmaker-reactive:bootRun)
+ */
+@SpringBootApplication
+public class DmakerReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(DmakerReactiveApplication.class, args);
+    }
+
+}
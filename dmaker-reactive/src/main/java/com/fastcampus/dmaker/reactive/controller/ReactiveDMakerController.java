@@ -0,0 +1,86 @@
+package com.fastcampus.dmaker.reactive.controller;
+
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.reactive.service.ReactiveDMakerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ReactiveDMakerController {
+
+    private static final Pattern VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
+    private final ReactiveDMakerService dMakerService;
+
+    @GetMapping("/developers")
+    public Mono<DeveloperPageDto> getDevelopers(
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) final int size
+    ) {
+        return dMakerService.getEmployedDevelopers(cursor, size);
+    }
+
+    @GetMapping("/developer/{memberId}")
+    public Mono<ResponseEntity<DeveloperDetailDto>> getDeveloperDetail(@PathVariable final String memberId) {
+        return dMakerService.getDeveloperDetail(memberId).map(this::withETag);
+    }
+
+    @PostMapping("/create-developer")
+    public Mono<CreateDeveloper.Response> createDeveloper(
+            @Valid @RequestBody final CreateDeveloper.Request request
+    ) {
+        return dMakerService.createDeveloper(request);
+    }
+
+    @PutMapping("/developer/{memberId}")
+    public Mono<ResponseEntity<DeveloperDetailDto>> editDeveloper(
+            @PathVariable final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @Valid @RequestBody final EditDeveloper.Request request
+    ) {
+        return dMakerService.editDeveloper(memberId, request, parseVersions(ifMatch)).map(this::withETag);
+    }
+
+    @DeleteMapping("/developer/{memberId}")
+    public Mono<DeveloperDetailDto> deleteDeveloper(@PathVariable final String memberId) {
+        return dMakerService.deleteDeveloper(memberId);
+    }
+
+    private ResponseEntity<DeveloperDetailDto> withETag(DeveloperDetailDto developer) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (developer.getVersion() != null) response.eTag(developer.getVersion().toString());
+        return response.body(developer);
+    }
+
+    /**
+     * 서블릿 API 와 같은 규칙: If-Match 가 없거나 * 이면 버전을 검사하지 않고, 약한 ETag 나 모르는 태그는 맞지 않는 것으로 본다.
+     */
+    private Set<Long> parseVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+        Set<Long> versions = new HashSet<>();
+        for (String element : ifMatch.split(",")) {
+            String tag = element.trim();
+            if ("*".equals(tag)) return null;
+            Matcher matcher = VERSION_TAG.matcher(tag);
+            if (matcher.matches()) versions.add(Long.valueOf(matcher.group(1)));
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fastcampus.dmaker.reactive.entity;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperDto;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Developer 와 같은 developer 테이블을 R2DBC 로 매핑한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("developer")
+public class DeveloperRecord {
+
+    public static final String MEMBER_ID_UNIQUE_CONSTRAINT = "uk_developer_member_id";
+
+    @Id
+    private Long id;
+
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer experienceYears;
+    private String memberId;
+    private String name;
+    private Integer age;
+    private StatusCode statusCode;
+
+    @Version
+    private Long version;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public static DeveloperRecord fromRequest(CreateDeveloper.Request request) {
+        return DeveloperRecord.builder()
+                .developerLevel(request.getDeveloperLevel())
+                .developerSkillType(request.getDeveloperSkillType())
+                .experienceYears(request.getExperienceYears())
+                .memberId(request.getMemberId())
+                .name(request.getName())
+                .age(request.getAge())
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    public DeveloperDto toDto() {
+        return DeveloperDto.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .memberId(memberId)
+                .build();
+    }
+
+    public DeveloperDetailDto toDetailDto() {
+        return DeveloperDetailDto.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .statusCode(statusCode)
+                .name(name)
+                .age(age)
+                .version(version)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    public CreateDeveloper.Response toCreateResponse() {
+        return CreateDeveloper.Response.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .build();
+    }
+}
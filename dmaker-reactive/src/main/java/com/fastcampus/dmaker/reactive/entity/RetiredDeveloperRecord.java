@@ -0,0 +1,57 @@
+package com.fastcampus.dmaker.reactive.entity;
+
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA RetiredDeveloper 와 같은 retired_developer 테이블을 R2DBC 로 매핑한다. 퇴직 시점의 developer 행을 그대로 옮겨 둔다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("retired_developer")
+public class RetiredDeveloperRecord {
+
+    @Id
+    private Long id;
+
+    private Long developerId;
+    private String memberId;
+    private String name;
+    private Integer age;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer experienceYears;
+    private LocalDateTime hiredAt;
+    private LocalDateTime retiredAt;
+    private LocalDateTime rehiredAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public static RetiredDeveloperRecord snapshotOf(DeveloperRecord developer, LocalDateTime retiredAt) {
+        return RetiredDeveloperRecord.builder()
+                .developerId(developer.getId())
+                .memberId(developer.getMemberId())
+                .name(developer.getName())
+                .age(developer.getAge())
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .hiredAt(developer.getCreatedAt())
+                .retiredAt(retiredAt)
+                .build();
+    }
+}
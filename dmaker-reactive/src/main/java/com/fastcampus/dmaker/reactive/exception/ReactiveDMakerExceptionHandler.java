@@ -0,0 +1,62 @@
+package com.fastcampus.dmaker.reactive.exception;
+
+import com.fastcampus.dmaker.dto.DMakerErrorResponse;
+import com.fastcampus.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.dmaker.exception.DMakerException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.INTERNAL_SERVER_ERROR;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+
+/**
+ * 서블릿 앱의 DMakerExceptionHandler 와 같은 응답 형식/상태 코드를 쓴다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveDMakerExceptionHandler {
+
+    @ExceptionHandler(DMakerException.class)
+    public ResponseEntity<DMakerErrorResponse> handleException(DMakerException e, ServerHttpRequest request) {
+        log.error("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getPath(), e.getDetailMessage());
+        return ResponseEntity.status(statusOf(e.getDMakerErrorCode()))
+                .body(DMakerErrorResponse.builder()
+                        .errorCode(e.getDMakerErrorCode())
+                        .message(e.getDetailMessage())
+                        .build());
+    }
+
+    /**
+     * WebExchangeBindException(@Valid 실패)도 ServerWebInputException 이다.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public DMakerErrorResponse handleBadRequest(ServerWebInputException e, ServerHttpRequest request) {
+        log.error("url: {}, message: {}", request.getPath(), e.getMessage());
+        return DMakerErrorResponse.builder()
+                .errorCode(INVALID_REQUEST)
+                .message(INVALID_REQUEST.getMessage())
+                .build();
+    }
+
+    @ExceptionHandler(Exception.class)
+    public DMakerErrorResponse handleException(Exception e, ServerHttpRequest request) {
+        log.error("url: {}, message: {}", request.getPath(), e.getMessage());
+        return DMakerErrorResponse.builder()
+                .errorCode(INTERNAL_SERVER_ERROR)
+                .message(INTERNAL_SERVER_ERROR.getMessage())
+                .build();
+    }
+
+    private HttpStatus statusOf(DMakerErrorCode errorCode) {
+        return switch (errorCode) {
+            case DEVELOPER_VERSION_CONFLICT -> HttpStatus.PRECONDITION_FAILED;
+            case TOO_MANY_REQUESTS -> HttpStatus.TOO_MANY_REQUESTS;
+            default -> HttpStatus.OK;
+        };
+    }
+}
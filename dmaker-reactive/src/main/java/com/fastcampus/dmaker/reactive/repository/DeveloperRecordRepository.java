@@ -0,0 +1,15 @@
+package com.fastcampus.dmaker.reactive.repository;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.reactive.entity.DeveloperRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface DeveloperRecordRepository extends ReactiveCrudRepository<DeveloperRecord, Long> {
+    Mono<DeveloperRecord> findByMemberId(String memberId);
+
+    Flux<DeveloperRecord> findByStatusCodeAndIdGreaterThanOrderByIdAsc(
+            StatusCode statusCode, Long id, Pageable pageable);
+}
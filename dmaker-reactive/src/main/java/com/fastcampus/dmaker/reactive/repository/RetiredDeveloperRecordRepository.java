@@ -0,0 +1,9 @@
+package com.fastcampus.dmaker.reactive.repository;
+
+import com.fastcampus.dmaker.reactive.entity.RetiredDeveloperRecord;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface RetiredDeveloperRecordRepository extends ReactiveCrudRepository<RetiredDeveloperRecord, Long> {
+    Mono<Boolean> existsByMemberIdAndRehiredAtIsNull(String memberId);
+}
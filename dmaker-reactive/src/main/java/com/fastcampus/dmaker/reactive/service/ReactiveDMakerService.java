@@ -0,0 +1,130 @@
+package com.fastcampus.dmaker.reactive.service;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.reactive.entity.DeveloperRecord;
+import com.fastcampus.dmaker.reactive.entity.RetiredDeveloperRecord;
+import com.fastcampus.dmaker.reactive.repository.DeveloperRecordRepository;
+import com.fastcampus.dmaker.reactive.repository.RetiredDeveloperRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.*;
+
+/**
+ * DMakerService 와 같은 규칙(레벨-연차 검증, memberId 중복, 퇴직 처리)을 논블로킹으로 수행한다.
+ * outbox 이벤트와 통계 카운터는 서블릿 앱에만 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveDMakerService {
+
+    private final DeveloperRecordRepository developerRepository;
+    private final RetiredDeveloperRecordRepository retiredDeveloperRepository;
+
+    public Mono<DeveloperPageDto> getEmployedDevelopers(Long cursor, int size) {
+        if (size < 1) return Mono.error(new DMakerException(INVALID_REQUEST, "size must be positive"));
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        return developerRepository.findByStatusCodeAndIdGreaterThanOrderByIdAsc(
+                        StatusCode.EMPLOYED,
+                        cursor == null ? 0L : cursor,
+                        PageRequest.of(0, pageSize + 1))
+                .collectList()
+                .map(developers -> {
+                    boolean hasNext = developers.size() > pageSize;
+                    List<DeveloperRecord> page = hasNext ? developers.subList(0, pageSize) : developers;
+                    return DeveloperPageDto.builder()
+                            .developers(page.stream().map(DeveloperRecord::toDto).toList())
+                            .nextCursor(hasNext ? page.get(pageSize - 1).getId() : null)
+                            .hasNext(hasNext)
+                            .build();
+                });
+    }
+
+    public Mono<DeveloperDetailDto> getDeveloperDetail(String memberId) {
+        return getDeveloperByMemberId(memberId).map(DeveloperRecord::toDetailDto);
+    }
+
+    /**
+     * 재직 중인 memberId 중복은 SELECT 없이 unique 제약 위반으로 판단하고, 퇴직 보관 중인 memberId 는 DMakerService 처럼 거절한다.
+     */
+    @Transactional
+    public Mono<CreateDeveloper.Response> createDeveloper(CreateDeveloper.Request request) {
+        return Mono.fromRunnable(() ->
+                        request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears()))
+                .then(retiredDeveloperRepository.existsByMemberIdAndRehiredAtIsNull(request.getMemberId()))
+                .flatMap(retired -> retired
+                        ? Mono.<DeveloperRecord>error(DMakerException.of(DUPLICATED_MEMBER_ID))
+                        : developerRepository.save(DeveloperRecord.fromRequest(request)))
+                .map(DeveloperRecord::toCreateResponse)
+                .onErrorMap(this::isMemberIdConflict, e -> DMakerException.of(DUPLICATED_MEMBER_ID));
+    }
+
+    private boolean isMemberIdConflict(Throwable e) {
+        return e instanceof DataIntegrityViolationException
+                && e.getMessage() != null
+                && e.getMessage().toLowerCase().contains(DeveloperRecord.MEMBER_ID_UNIQUE_CONSTRAINT);
+    }
+
+    @Transactional
+    public Mono<DeveloperDetailDto> editDeveloper(String memberId, EditDeveloper.Request request,
+                                                  Set<Long> expectedVersions) {
+        return Mono.fromRunnable(() ->
+                        request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears()))
+                .then(getDeveloperByMemberId(memberId))
+                .flatMap(developer -> {
+                    if (expectedVersions != null && !expectedVersions.contains(developer.getVersion())) {
+                        return Mono.error(DMakerException.of(DEVELOPER_VERSION_CONFLICT));
+                    }
+                    developer.setDeveloperLevel(request.getDeveloperLevel());
+                    developer.setDeveloperSkillType(request.getDeveloperSkillType());
+                    developer.setExperienceYears(request.getExperienceYears());
+                    return developerRepository.save(developer);
+                })
+                .map(DeveloperRecord::toDetailDto)
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        e -> DMakerException.of(DEVELOPER_VERSION_CONFLICT));
+    }
+
+    /**
+     * DMakerService 처럼 developer 행을 (버전을 확인하며) 지우고 퇴직 시점 스냅샷을 retired_developer 로 옮긴다.
+     * 이미 보관 중인 memberId 면 행만 지워 현재 보관 행을 하나로 유지한다.
+     */
+    @Transactional
+    public Mono<DeveloperDetailDto> deleteDeveloper(String memberId) {
+        return getDeveloperByMemberId(memberId)
+                .flatMap(developer -> developerRepository.delete(developer)
+                        .then(retiredDeveloperRepository.existsByMemberIdAndRehiredAtIsNull(memberId))
+                        .flatMap(retired -> retired
+                                ? Mono.just(developer)
+                                : retiredDeveloperRepository.save(
+                                                RetiredDeveloperRecord.snapshotOf(developer, LocalDateTime.now()))
+                                        .thenReturn(developer)))
+                .map(developer -> {
+                    developer.setStatusCode(StatusCode.RETIRED);
+                    return developer.toDetailDto();
+                })
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        e -> DMakerException.of(DEVELOPER_VERSION_CONFLICT));
+    }
+
+    private Mono<DeveloperRecord> getDeveloperByMemberId(String memberId) {
+        return developerRepository.findByMemberId(memberId)
+                .switchIfEmpty(Mono.error(() -> DMakerException.of(NO_DEVELOPER)));
+    }
+}
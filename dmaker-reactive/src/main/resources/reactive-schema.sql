@@ -0,0 +1,34 @@
+create table if not exists developer (
+    id                   bigint generated by default as identity primary key,
+    developer_level      varchar(20),
+    developer_skill_type varchar(20),
+    experience_years     integer,
+    member_id            varchar(50) not null,
+    name                 varchar(20),
+    age                  integer,
+    status_code          varchar(20),
+    version              bigint      not null default 0,
+    created_at           timestamp(6),
+    updated_at           timestamp(6),
+    constraint uk_developer_member_id unique (member_id)
+);
+
+create index if not exists idx_developer_status_code_id on developer (status_code, id);
+
+create table if not exists retired_developer (
+    id                   bigint generated by default as identity primary key,
+    developer_id         bigint,
+    member_id            varchar(50),
+    name                 varchar(20),
+    age                  integer,
+    developer_level      varchar(20),
+    developer_skill_type varchar(20),
+    experience_years     integer,
+    hired_at             timestamp(6),
+    retired_at           timestamp(6),
+    rehired_at           timestamp(6),
+    created_at           timestamp(6),
+    updated_at           timestamp(6)
+);
+
+create index if not exists idx_retired_developer_member_id on retired_developer (member_id, rehired_at);
@@ -0,0 +1,64 @@
+package com.fastcampus.dmaker.reactive.controller;
+
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.reactive.service.ReactiveDMakerService;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@WebFluxTest(ReactiveDMakerController.class)
+class ReactiveDMakerControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveDMakerService dMakerService;
+
+    @Test
+    void getDeveloperDetail_with_etag() {
+        given(dMakerService.getDeveloperDetail("member1"))
+                .willReturn(Mono.just(DeveloperDetailDto.builder()
+                        .developerLevel(DeveloperLevel.JUNIOR)
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .memberId("member1")
+                        .version(3L)
+                        .build()));
+
+        webTestClient.get().uri("/developer/member1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody().jsonPath("$.memberId").isEqualTo("member1");
+    }
+
+    @Test
+    void createDeveloper_duplicated_memberId() {
+        given(dMakerService.createDeveloper(any()))
+                .willReturn(Mono.error(DMakerException.of(DUPLICATED_MEMBER_ID)));
+
+        webTestClient.post().uri("/create-developer")
+                .bodyValue(CreateDeveloper.Request.builder()
+                        .developerLevel(DeveloperLevel.JUNIOR)
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .experienceYears(2)
+                        .memberId("member1")
+                        .name("member")
+                        .age(30)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.errorCode").isEqualTo(DUPLICATED_MEMBER_ID.name());
+    }
+}
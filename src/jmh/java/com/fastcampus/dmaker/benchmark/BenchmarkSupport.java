@@ -0,0 +1,116 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.DmakerApplication;
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BenchmarkSupport {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private BenchmarkSupport() {
+    }
+
+    public static ConfigurableApplicationContext startContext(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    public static ConfigurableApplicationContext startWebContext(String... properties) {
+        List<String> merged = new ArrayList<>(List.of(properties));
+        merged.add("server.port=0");
+        merged.add("dmaker.rate-limit.enabled=false");
+        return start(WebApplicationType.SERVLET, merged.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType type, String... properties) {
+        List<String> merged = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:dmaker-bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.use_sql_comments=false",
+                "logging.level.root=WARN"
+        ));
+        merged.addAll(List.of(properties));
+        return new SpringApplicationBuilder(DmakerApplication.class)
+                .web(type)
+                .properties(merged.toArray(String[]::new))
+                .run();
+    }
+
+    public static String memberId(int index) {
+        return "member" + index;
+    }
+
+    /**
+     * JPA 를 거치지 않고 JDBC batch insert 로 rows 건의 재직 개발자를 넣는다. memberId 는 member0 부터 순서대로 붙는다.
+     */
+    public static void seedDevelopers(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        DeveloperLevel[] levels = DeveloperLevel.values();
+        DeveloperSkillType[] skillTypes = DeveloperSkillType.values();
+
+        for (int from = 0; from < rows; from += SEED_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, rows); i++) {
+                DeveloperLevel level = levels[i % levels.length];
+                batch.add(new Object[]{
+                        i + 1L, level.name(), skillTypes[i % skillTypes.length].name(),
+                        experienceYearsOf(level), memberId(i), "name" + i, 20 + i % 40,
+                        StatusCode.EMPLOYED.name(), 0L, now, now
+                });
+            }
+            jdbcTemplate.batchUpdate("insert into developer (id, developer_level, developer_skill_type, "
+                    + "experience_years, member_id, name, age, status_code, version, created_at, updated_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        }
+        jdbcTemplate.execute("alter sequence developer_seq restart with " + (rows + 1L));
+    }
+
+    /**
+     * seedDevelopers 와 같은 값을 DeveloperStore 로 넣는다. dmaker.storage.type=memory 처럼 DB 를 거치지 않는 저장소용이다.
+     */
+    public static void seedDeveloperStore(ConfigurableApplicationContext context, int rows) {
+        DeveloperStore developerStore = context.getBean(DeveloperStore.class);
+        DeveloperLevel[] levels = DeveloperLevel.values();
+        DeveloperSkillType[] skillTypes = DeveloperSkillType.values();
+
+        for (int from = 0; from < rows; from += SEED_BATCH_SIZE) {
+            List<Developer> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, rows); i++) {
+                DeveloperLevel level = levels[i % levels.length];
+                batch.add(Developer.builder()
+                        .developerLevel(level)
+                        .developerSkillType(skillTypes[i % skillTypes.length])
+                        .experienceYears(experienceYearsOf(level))
+                        .memberId(memberId(i))
+                        .name("name" + i)
+                        .age(20 + i % 40)
+                        .statusCode(StatusCode.EMPLOYED)
+                        .build());
+            }
+            developerStore.createAll(batch);
+        }
+    }
+
+    private static int experienceYearsOf(DeveloperLevel level) {
+        return switch (level) {
+            case NEW -> 0;
+            case JUNIOR -> 2;
+            case JUNGNIOR -> 7;
+            case SENIOR -> 12;
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.service.DMakerService;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+/**
+ * H2 에 rows 건을 채운 뒤 DMakerService 의 조회/쓰기 경로를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DMakerServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext();
+        BenchmarkSupport.seedDevelopers(context, rows);
+        dMakerService = context.getBean(DMakerService.class);
+        sequence.set(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private String randomMemberId() {
+        return BenchmarkSupport.memberId(ThreadLocalRandom.current().nextInt(rows));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetail() {
+        return dMakerService.getDeveloperDetail(randomMemberId());
+    }
+
+    @Benchmark
+    public DeveloperPageDto getEmployedDevelopersPage() {
+        return dMakerService.getEmployedDevelopers(
+                (long) ThreadLocalRandom.current().nextInt(rows), MAX_PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void streamAllEmployedDevelopers(Blackhole blackhole) {
+        dMakerService.streamEmployedDevelopers(blackhole::consume);
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloper() {
+        return dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(2)
+                .memberId(BenchmarkSupport.memberId(sequence.getAndIncrement()))
+                .name("name")
+                .age(30)
+                .build());
+    }
+
+    @Benchmark
+    public DeveloperDetailDto editDeveloper() {
+        return dMakerService.editDeveloper(randomMemberId(), EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.FULL_STACK)
+                .experienceYears(15)
+                .build(), null);
+    }
+
+    /**
+     * 퇴직하면 Developer 행이 보관 테이블로 옮겨지므로 재입사까지 묶어서 재면 행 수가 유지된다.
+     */
+    @Benchmark
+    public DeveloperDetailDto retireAndRehireDeveloper() {
+        String memberId = randomMemberId();
+        dMakerService.deleteDeveloper(memberId);
+        return dMakerService.rehireDeveloper(memberId);
+    }
+}
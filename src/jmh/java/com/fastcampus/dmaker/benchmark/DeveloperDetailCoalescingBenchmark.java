@@ -0,0 +1,107 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import com.fastcampus.dmaker.service.DMakerService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.config.CacheConfig.DEVELOPER_DETAIL_CACHE;
+
+/**
+ * 캐시에서 막 빠진 memberId 하나에 concurrency 개의 조회가 한꺼번에 들어오는 상황을 만든다.
+ * coalesced=false 는 호출마다 findDetailByMemberId 를 직접 부르는 이전 동작이다.
+ * 반복(iteration)마다 burst 한 번당 실행된 SQL 수를 출력한다. 합쳐지면 concurrency 와 관계없이 1 근처에 머문다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeveloperDetailCoalescingBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"1", "16", "64", "256"})
+    private int concurrency;
+
+    @Param({"true", "false"})
+    private boolean coalesced;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private DeveloperRepository developerRepository;
+    private Cache developerDetailCache;
+    private Statistics statistics;
+    private ExecutorService executor;
+    private long bursts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext("spring.jpa.properties.hibernate.generate_statistics=true");
+        BenchmarkSupport.seedDevelopers(context, ROWS);
+        dMakerService = context.getBean(DMakerService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+        developerDetailCache = context.getBean(CacheManager.class).getCache(DEVELOPER_DETAIL_CACHE);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        statistics.clear();
+        bursts = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printQueriesPerBurst() {
+        System.out.printf("%n[coalescing] concurrency: %d, coalesced: %s, queries per burst: %.2f%n",
+                concurrency, coalesced, (double) statistics.getPrepareStatementCount() / Math.max(1, bursts));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public List<DeveloperDetailDto> burst() throws Exception {
+        String memberId = BenchmarkSupport.memberId(ThreadLocalRandom.current().nextInt(ROWS));
+        developerDetailCache.evict(memberId);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<DeveloperDetailDto>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return coalesced
+                        ? dMakerService.getDeveloperDetail(memberId)
+                        : developerRepository.findDetailByMemberId(memberId)
+                                .map(DeveloperDetailDto::fromView)
+                                .orElseThrow();
+            }));
+        }
+        start.countDown();
+
+        List<DeveloperDetailDto> results = new ArrayList<>(concurrency);
+        for (Future<DeveloperDetailDto> future : futures) results.add(future.get());
+        bursts++;
+        return results;
+    }
+}
@@ -0,0 +1,88 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.SearchDeveloper;
+import com.fastcampus.dmaker.dto.SearchDeveloperIndex;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import com.fastcampus.dmaker.service.DMakerService;
+import com.fastcampus.dmaker.service.DeveloperIndex;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "재직 중인 레벨 X, 스킬 Y 개발자" 조회. 메모리 색인, 복합 인덱스를 타는 검색 API,
+ * 이전 방식(재직자 전체 조회 후 애플리케이션에서 필터)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeveloperIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperIndex developerIndex;
+    private DMakerService dMakerService;
+    private DeveloperRepository developerRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext();
+        BenchmarkSupport.seedDevelopers(context, rows);
+        developerIndex = context.getBean(DeveloperIndex.class);
+        developerIndex.rebuild();
+        dMakerService = context.getBean(DMakerService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SearchDeveloperIndex.Response indexCount() {
+        return developerIndex.search(indexRequest(0));
+    }
+
+    @Benchmark
+    public SearchDeveloperIndex.Response indexPage() {
+        return developerIndex.search(indexRequest(20));
+    }
+
+    @Benchmark
+    public SearchDeveloper.Response searchPage() {
+        return dMakerService.searchDevelopers(SearchDeveloper.Request.builder()
+                .statusCode(StatusCode.EMPLOYED)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .build());
+    }
+
+    @Benchmark
+    public List<String> loadAllThenFilter() {
+        return developerRepository.findByStatusCodeEquals(StatusCode.EMPLOYED).stream()
+                .filter(developer -> developer.getDeveloperLevel() == DeveloperLevel.SENIOR
+                        && developer.getDeveloperSkillType() == DeveloperSkillType.BACK_END)
+                .map(Developer::getMemberId)
+                .toList();
+    }
+
+    private SearchDeveloperIndex.Request indexRequest(int size) {
+        return SearchDeveloperIndex.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .size(size)
+                .build();
+    }
+}
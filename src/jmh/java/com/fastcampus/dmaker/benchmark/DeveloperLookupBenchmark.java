@@ -0,0 +1,54 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * memberId 단건 조회 지연 시간. indexed=false 는 unique 제약을 지워서 인덱스가 없던 이전 스키마를 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeveloperLookupBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperRepository developerRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext();
+        BenchmarkSupport.seedDevelopers(context, rows);
+        if (!indexed) {
+            context.getBean(JdbcTemplate.class).execute("alter table developer drop constraint "
+                    + Developer.MEMBER_ID_UNIQUE_CONSTRAINT);
+        }
+        developerRepository = context.getBean(DeveloperRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Developer> findByMemberId() {
+        return developerRepository.findByMemberId(
+                BenchmarkSupport.memberId(ThreadLocalRandom.current().nextInt(rows)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.service.DMakerService;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+
+/**
+ * dmaker.storage.type 별로 DMakerService 의 쓰기/목록 경로를 잰다. 상세 조회는 캐시에 가려지므로 넣지 않았다.
+ * 여러 스레드가 서로 다른 memberId 를 고치므로 memory 저장소의 memberId 단위 잠금이 서로 막지 않는지도 보인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class DeveloperStoreBenchmark {
+
+    @Param({"jpa", "memory"})
+    private String storage;
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long startedAt = System.nanoTime();
+        context = BenchmarkSupport.startContext("dmaker.storage.type=" + storage);
+        long seededAt = System.nanoTime();
+        if (storage.equals("memory")) BenchmarkSupport.seedDeveloperStore(context, rows);
+        else BenchmarkSupport.seedDevelopers(context, rows);
+        System.out.printf("%nstorage=%s rows=%d context=%d ms seed=%d ms%n", storage, rows,
+                TimeUnit.NANOSECONDS.toMillis(seededAt - startedAt),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seededAt));
+        dMakerService = context.getBean(DMakerService.class);
+        sequence.set(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private String randomMemberId() {
+        return BenchmarkSupport.memberId(ThreadLocalRandom.current().nextInt(rows));
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloper() {
+        return dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(2)
+                .memberId(BenchmarkSupport.memberId(sequence.getAndIncrement()))
+                .name("name")
+                .age(30)
+                .build());
+    }
+
+    /**
+     * 드물게 두 스레드가 같은 memberId 를 고르면 한쪽은 버전 충돌로 끝난다. 그 호출도 한 번의 처리로 센다.
+     */
+    @Benchmark
+    public DeveloperDetailDto editDeveloper() {
+        try {
+            return dMakerService.editDeveloper(randomMemberId(), EditDeveloper.Request.builder()
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.FULL_STACK)
+                    .experienceYears(15)
+                    .build(), null);
+        } catch (DMakerException e) {
+            if (e.getDMakerErrorCode() != DEVELOPER_VERSION_CONFLICT) throw e;
+            return null;
+        }
+    }
+
+    @Benchmark
+    public DeveloperPageDto getEmployedDevelopersPage() {
+        return dMakerService.getEmployedDevelopers(
+                (long) ThreadLocalRandom.current().nextInt(rows), MAX_PAGE_SIZE);
+    }
+}
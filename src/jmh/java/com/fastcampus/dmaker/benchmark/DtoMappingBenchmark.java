@@ -0,0 +1,57 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperDto;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private Developer developer;
+
+    @Setup
+    public void setUp() {
+        developer = Developer.builder()
+                .id(1L)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .memberId("member1")
+                .name("name")
+                .age(40)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    @Benchmark
+    public DeveloperDto developerDto() {
+        return DeveloperDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto developerDetailDto() {
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloperResponse() {
+        return CreateDeveloper.Response.fromEntity(developer);
+    }
+
+    @Benchmark
+    public void validateExperienceYears() {
+        developer.getDeveloperLevel().validateExperienceYears(developer.getExperienceYears());
+    }
+}
@@ -0,0 +1,60 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.service.ExportService;
+import com.fastcampus.dmaker.type.ExportTarget;
+import com.fastcampus.dmaker.type.FileFormat;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 export 한 번에 걸리는 시간. 행 수로 나누면 처리량(rows/s)이 나오고, gc 프로파일러로 행 수와 무관하게 할당량이 일정한지 확인한다.
+ * 네트워크/디스크 영향을 빼기 위해 출력은 버린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExportBenchmark {
+
+    @Param({"1000000", "3000000"})
+    private int rows;
+
+    @Param({"CSV", "NDJSON"})
+    private FileFormat format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ConfigurableApplicationContext context;
+    private ExportService exportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startContext();
+        BenchmarkSupport.seedDevelopers(context, rows);
+        exportService = context.getBean(ExportService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        if (!gzip) {
+            return exportService.export(ExportTarget.DEVELOPER, format, 0L, OutputStream.nullOutputStream());
+        }
+        GZIPOutputStream out = new GZIPOutputStream(OutputStream.nullOutputStream(), 64 * 1024);
+        long exported = exportService.export(ExportTarget.DEVELOPER, format, 0L, out);
+        out.finish();
+        return exported;
+    }
+}
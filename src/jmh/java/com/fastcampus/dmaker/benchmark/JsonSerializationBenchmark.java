@@ -0,0 +1,69 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private DeveloperDetailDto detail;
+    private DeveloperPageDto page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        detail = DeveloperDetailDto.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .memberId("member1")
+                .statusCode(StatusCode.EMPLOYED)
+                .name("name")
+                .age(40)
+                .build();
+
+        List<DeveloperDto> developers = new ArrayList<>(MAX_PAGE_SIZE);
+        for (int i = 0; i < MAX_PAGE_SIZE; i++) {
+            developers.add(DeveloperDto.builder()
+                    .developerLevel(DeveloperLevel.JUNIOR)
+                    .developerSkillType(DeveloperSkillType.FRONT_END)
+                    .memberId(BenchmarkSupport.memberId(i))
+                    .build());
+        }
+        page = DeveloperPageDto.builder()
+                .developers(developers)
+                .nextCursor((long) MAX_PAGE_SIZE)
+                .hasNext(true)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] developerDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] developerPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
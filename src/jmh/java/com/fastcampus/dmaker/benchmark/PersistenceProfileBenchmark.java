@@ -0,0 +1,91 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import com.fastcampus.dmaker.service.DMakerService;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기본 설정(SQL 로그 출력, 2차 캐시 없음)과 prod 프로필(SQL 로그 끔, 2차/쿼리 캐시, 정렬된 batch)을 비교한다.
+ * 조회는 자주 읽히는 hotSet 건 안에서 고르고, 쓰기는 100건씩 bulk 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceProfileBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int CREATE_BATCH_SIZE = 100;
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    @Param({"1000"})
+    private int hotSet;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperRepository developerRepository;
+    private DMakerService dMakerService;
+    private final AtomicInteger sequence = new AtomicInteger(ROWS);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "prod".equals(profile)
+                ? BenchmarkSupport.startContext("spring.profiles.active=prod")
+                : BenchmarkSupport.startContext(
+                "spring.jpa.show-sql=true",
+                "spring.jpa.properties.hibernate.format_sql=true",
+                "spring.jpa.properties.hibernate.use_sql_comments=true");
+        BenchmarkSupport.seedDevelopers(context, ROWS);
+        developerRepository = context.getBean(DeveloperRepository.class);
+        dMakerService = context.getBean(DMakerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Developer> findById() {
+        return developerRepository.findById(ThreadLocalRandom.current().nextInt(hotSet) + 1L);
+    }
+
+    @Benchmark
+    public Optional<Developer> findByMemberId() {
+        return developerRepository.findByMemberId(
+                BenchmarkSupport.memberId(ThreadLocalRandom.current().nextInt(hotSet)));
+    }
+
+    @Benchmark
+    public BulkCreateDeveloper.Response createDevelopers() {
+        List<CreateDeveloper.Request> requests = new ArrayList<>(CREATE_BATCH_SIZE);
+        for (int i = 0; i < CREATE_BATCH_SIZE; i++) {
+            int index = sequence.getAndIncrement();
+            requests.add(CreateDeveloper.Request.builder()
+                    .developerLevel(DeveloperLevel.JUNIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(2)
+                    .memberId(BenchmarkSupport.memberId(index))
+                    .name("name" + index)
+                    .age(30)
+                    .build());
+        }
+        return dMakerService.createDevelopers(requests);
+    }
+}
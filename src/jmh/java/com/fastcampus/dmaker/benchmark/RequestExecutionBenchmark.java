@@ -0,0 +1,74 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 풀)와 virtual-threads 프로필의 처리량/꼬리 지연을 같은 부하로 비교한다.
+ * GET /developers 는 캐시를 타지 않으므로 요청마다 JDBC 에서 블로킹된다.
+ * virtual-threads 는 Java 21 이상에서 실행해야 한다. (./gradlew jmh -PvirtualThreads -PjmhIncludes=RequestExecution)
+ * 반응형 스택은 dmaker-reactive 의 ReactiveRequestExecutionBenchmark 가 같은 부하로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(512)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    @Param({"platform", "virtual-threads"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private ResourceUsageSampler sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startWebContext(
+                "spring.profiles.active=" + ("platform".equals(mode) ? "default" : mode));
+        BenchmarkSupport.seedDevelopers(context, ROWS);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampling() {
+        HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+        sampler = ResourceUsageSampler.start(() -> dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSampling() {
+        sampler.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getDevelopersPage() throws IOException, InterruptedException {
+        long cursor = ThreadLocalRandom.current().nextInt(ROWS);
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create(baseUrl + "/developers?size=20&cursor=" + cursor)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,37 @@
+package com.fastcampus.dmaker.benchmark;
+
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 성공/실패 경로의 시간과 할당량. gc 프로파일러의 gc.alloc.rate.norm 이 0 에 가까워야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private int matchedYears = 12;
+    private int unmatchedYears = 3;
+
+    @Benchmark
+    public void validateMatched() {
+        DeveloperLevel.SENIOR.validateExperienceYears(matchedYears);
+    }
+
+    @Benchmark
+    public DMakerException validateUnmatched() {
+        try {
+            DeveloperLevel.SENIOR.validateExperienceYears(unmatchedYears);
+            return null;
+        } catch (DMakerException e) {
+            return e;
+        }
+    }
+}
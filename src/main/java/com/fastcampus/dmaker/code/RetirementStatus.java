@@ -0,0 +1,15 @@
+package com.fastcampus.dmaker.code;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RetirementStatus {
+    QUEUED("대기"),
+    RUNNING("처리 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
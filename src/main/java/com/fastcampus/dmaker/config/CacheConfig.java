@@ -0,0 +1,35 @@
+package com.fastcampus.dmaker.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DEVELOPER_DETAIL_CACHE = "developerDetail";
+
+    /**
+     * put/evict 는 트랜잭션 커밋 이후에 반영되므로 롤백된 수정이 캐시에 남지 않는다.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${dmaker.cache.developer-detail.maximum-size}") long maximumSize,
+            @Value("${dmaker.cache.developer-detail.expire-after-write}") Duration expireAfterWrite
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DEVELOPER_DETAIL_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fastcampus.dmaker.config;
+
+import com.fastcampus.dmaker.metrics.QueryCountInterceptor;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public QueryCountInterceptor queryCountInterceptor(MeterRegistry meterRegistry) {
+        return new QueryCountInterceptor(meterRegistry);
+    }
+}
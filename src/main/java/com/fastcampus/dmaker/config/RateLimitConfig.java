@@ -0,0 +1,23 @@
+package com.fastcampus.dmaker.config;
+
+import com.fastcampus.dmaker.ratelimit.RateLimitInterceptor;
+import com.fastcampus.dmaker.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WebConfig 가 HandlerInterceptor 빈을 모두 등록하므로 여기서는 빈만 만든다.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "dmaker.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimitInterceptor(properties, meterRegistry);
+    }
+}
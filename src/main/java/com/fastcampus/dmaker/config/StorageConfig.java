@@ -0,0 +1,52 @@
+package com.fastcampus.dmaker.config;
+
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import com.fastcampus.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.InMemoryDeveloperStore;
+import com.fastcampus.dmaker.store.InMemoryRetiredDeveloperStore;
+import com.fastcampus.dmaker.store.JpaDeveloperStore;
+import com.fastcampus.dmaker.store.JpaRetiredDeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * dmaker.storage.type 으로 Developer / RetiredDeveloper 저장소를 고른다. jpa(기본)는 DB 에, memory 는 프로세스 메모리에 둔다.
+ * memory 는 재시작하면 비워지므로 테스트와 데이터를 따로 받아 채우는 edge 노드용이다. 이벤트 outbox 는 어느 쪽이든 JPA 를 쓴다.
+ */
+@Configuration
+public class StorageConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "dmaker.storage.type", havingValue = "jpa", matchIfMissing = true)
+    static class JpaStorageConfig {
+
+        @Bean
+        public DeveloperStore developerStore(DeveloperRepository developerRepository, EntityManager entityManager) {
+            return new JpaDeveloperStore(developerRepository, entityManager);
+        }
+
+        @Bean
+        public RetiredDeveloperStore retiredDeveloperStore(RetiredDeveloperRepository retiredDeveloperRepository) {
+            return new JpaRetiredDeveloperStore(retiredDeveloperRepository);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "dmaker.storage.type", havingValue = "memory")
+    static class InMemoryStorageConfig {
+
+        @Bean
+        public DeveloperStore developerStore() {
+            return new InMemoryDeveloperStore();
+        }
+
+        @Bean
+        public RetiredDeveloperStore retiredDeveloperStore() {
+            return new InMemoryRetiredDeveloperStore();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fastcampus.dmaker.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<HandlerInterceptor> interceptors;
+    private final ObjectProvider<CallableProcessingInterceptor> callableInterceptors;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        interceptors.orderedStream().forEach(registry::addInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(
+                callableInterceptors.orderedStream().toArray(CallableProcessingInterceptor[]::new));
+    }
+}
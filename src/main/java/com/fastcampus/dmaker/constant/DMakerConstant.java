@@ -2,6 +2,15 @@ package com.fastcampus.dmaker.constant;
 
 
 public class DMakerConstant {
-    public static final Integer MIN_SENIOR_EXPERIENCE_YEARS = 10;
-    public static final Integer MAX_JUNIOR_EXPERIENCE_YEARS = 4;
+    public static final int MIN_SENIOR_EXPERIENCE_YEARS = 10;
+    public static final int MAX_JUNIOR_EXPERIENCE_YEARS = 4;
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static final int MAX_BULK_CREATE_SIZE = 50_000;
+    public static final int BULK_BATCH_SIZE = 500;
+    public static final int MAX_BULK_RETIRE_SIZE = 50_000;
+    public static final int MAX_BATCH_GET_SIZE = 1_000;
+    public static final int IMPORT_CHUNK_SIZE = 2_000;
 }
@@ -1,33 +1,178 @@
 package com.fastcampus.dmaker.controller;
 
 import com.fastcampus.dmaker.dto.*;
-import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
 import com.fastcampus.dmaker.service.DMakerService;
+import com.fastcampus.dmaker.service.DeveloperEventService;
+import com.fastcampus.dmaker.service.DeveloperIndex;
+import com.fastcampus.dmaker.service.DeveloperStatistics;
+import com.fastcampus.dmaker.service.ExportService;
+import com.fastcampus.dmaker.service.ImportService;
+import com.fastcampus.dmaker.service.RetirementService;
+import com.fastcampus.dmaker.type.ExportTarget;
+import com.fastcampus.dmaker.type.FileFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class DMakerController {
 
+    private static final Pattern VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
     private final DMakerService dMakerService;
+    private final RetirementService retirementService;
+    private final DeveloperStatistics developerStatistics;
+    private final DeveloperIndex developerIndex;
+    private final DeveloperEventService developerEventService;
+    private final ExportService exportService;
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 목록 ETag 는 재직 개발자 건수와 max(updatedAt) 로 만든다. 값이 같으면 목록을 조회하지 않고 304 를 돌려준다.
+     * 버전을 먼저 읽으므로 그 사이에 바뀐 경우 ETag 가 본문보다 오래된 값이 되고, 다음 요청에서 다시 받아갈 뿐이다.
+     * 퇴직은 행을 지워 max(updatedAt) 가 그대로일 수 있으므로 Last-Modified 는 내려주지 않고 건수가 들어간 ETag 로만 비교한다.
+     */
     @GetMapping("/developers")
-    public List<DeveloperDto> getAllDevelopers() {
+    public ResponseEntity<DeveloperPageDto> getDevelopers(
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) final int size,
+            final WebRequest webRequest
+    ) {
         log.info("GET /developers HTTP/1.1");
-        return dMakerService.getAllEmployedDevelopers();
+        DeveloperCollectionVersion version = dMakerService.getEmployedDevelopersVersion();
+        if (webRequest.checkNotModified(collectionETag(version))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(dMakerService.getEmployedDevelopers(cursor, size));
+    }
+
+    @GetMapping(value = "/developers/stream", produces = APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDevelopers() {
+        log.info("GET /developers/stream HTTP/1.1");
+        return outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(outputStream)
+                    .setRootValueSeparator(new SerializedString("\n"));
+            dMakerService.streamEmployedDevelopers(developer -> {
+                try {
+                    generator.writeObject(developer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeRaw('\n');
+            generator.flush();
+        };
+    }
+
+    /**
+     * 끊긴 경우 마지막으로 받은 행의 id 를 after 로 넘기면 그 다음 행부터 이어서 받을 수 있다.
+     */
+    @GetMapping("/developers/export")
+    public ResponseEntity<StreamingResponseBody> exportDevelopers(
+            @RequestParam(defaultValue = "DEVELOPER") final ExportTarget target,
+            @RequestParam(defaultValue = "NDJSON") final FileFormat format,
+            @RequestParam(defaultValue = "0") final long after,
+            @RequestParam(defaultValue = "false") final boolean gzip
+    ) {
+        log.info("GET /developers/export HTTP/1.1");
+        String fileName = target.getFileName() + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = outputStream -> {
+            if (!gzip) {
+                exportService.export(target, format, after, outputStream);
+                return;
+            }
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024);
+            exportService.export(target, format, after, gzipOutputStream);
+            gzipOutputStream.finish();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
     }
 
     @GetMapping("/developer/{memberId}")
-    public DeveloperDetailDto getDeveloperDetail(@PathVariable final String memberId) {
+    public ResponseEntity<DeveloperDetailDto> getDeveloperDetail(@PathVariable final String memberId) {
         log.info("GET /developer HTTP/1.1");
-        return dMakerService.getDeveloperDetail(memberId);
+        DeveloperDetailDto developer = dMakerService.getDeveloperDetail(memberId);
+        return withValidators(ResponseEntity.ok().cacheControl(CacheControl.noCache()), developer);
+    }
+
+    @PostMapping("/developers/batch-get")
+    public BatchGetDevelopers.Response batchGetDevelopers(
+            @Valid @RequestBody final BatchGetDevelopers.Request request
+    ) {
+        log.info("POST /developers/batch-get HTTP/1.1");
+        return dMakerService.getDeveloperDetails(request.getMemberIds());
+    }
+
+    @GetMapping("/developers/search")
+    public SearchDeveloper.Response searchDevelopers(@Valid final SearchDeveloper.Request request) {
+        log.info("GET /developers/search HTTP/1.1");
+        return dMakerService.searchDevelopers(request);
+    }
+
+    /**
+     * 레벨/스킬/상태 조건만 메모리 색인에서 찾아 memberId 를 돌려준다. size=0 이면 건수만 센다.
+     */
+    @GetMapping("/developers/index")
+    public SearchDeveloperIndex.Response searchDeveloperIndex(@Valid final SearchDeveloperIndex.Request request) {
+        return developerIndex.search(request);
+    }
+
+    @GetMapping("/developers/stats")
+    public DeveloperStatisticsDto getDeveloperStatistics() {
+        return developerStatistics.getStatistics();
+    }
+
+    @GetMapping("/developers/events")
+    public DeveloperEventPageDto getDeveloperEvents(
+            @RequestParam(defaultValue = "0") final long after,
+            @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) final int limit
+    ) {
+        return developerEventService.getEventsAfter(after, limit);
+    }
+
+    @GetMapping("/developers/cache-stats")
+    public CacheStatsDto getDeveloperCacheStats() {
+        return dMakerService.getDeveloperDetailCacheStats();
     }
 
     @PostMapping("/create-developer")
@@ -37,18 +182,108 @@ public class DMakerController {
         return dMakerService.createDeveloper(request);
     }
 
+    @PostMapping("/create-developers")
+    public BulkCreateDeveloper.Response createDevelopers(
+            @Valid @RequestBody final BulkCreateDeveloper.Request request
+    ) {
+        log.info("POST /create-developers HTTP/1.1");
+        return dMakerService.createDevelopers(request.getDevelopers());
+    }
+
+    /**
+     * 요청 본문을 파일 그대로(CSV 또는 NDJSON) 받는다. 실패 후 같은 importId 로 다시 올리면 checkpoint 다음 줄부터 처리한다.
+     */
+    @PostMapping("/developers/import")
+    public ImportDevelopers.Response importDevelopers(
+            @RequestParam final String importId,
+            @RequestParam(defaultValue = "NDJSON") final FileFormat format,
+            @RequestParam(defaultValue = "false") final boolean gzip,
+            final InputStream body
+    ) throws IOException {
+        log.info("POST /developers/import HTTP/1.1");
+        return importService.importDevelopers(importId, format, gzip ? new GZIPInputStream(body, 64 * 1024) : body);
+    }
+
     @PutMapping("/developer/{memberId}")
-    public DeveloperDetailDto editDeveloper(
+    public ResponseEntity<DeveloperDetailDto> editDeveloper(
             @PathVariable final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @Valid @RequestBody final EditDeveloper.Request request
     ) {
-        log.info("GET /developer HTTP/1.1");
+        log.info("PUT /developer HTTP/1.1");
 
-        return dMakerService.editDeveloper(memberId, request);
+        DeveloperDetailDto developer = dMakerService.editDeveloper(memberId, request, parseVersions(ifMatch));
+        return withValidators(ResponseEntity.ok(), developer);
     }
 
     @DeleteMapping("/developer/{memberId}")
     public DeveloperDetailDto deleteDeveloper(@PathVariable final String memberId) {
         return dMakerService.deleteDeveloper(memberId);
     }
+
+    @GetMapping("/retired-developers")
+    public RetiredDeveloperPageDto getRetiredDevelopers(
+            @RequestParam(required = false) final String memberId,
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) final int size
+    ) {
+        log.info("GET /retired-developers HTTP/1.1");
+        return dMakerService.getRetiredDevelopers(memberId, cursor, size);
+    }
+
+    @PostMapping("/retired-developers/{memberId}/rehire")
+    public ResponseEntity<DeveloperDetailDto> rehireDeveloper(@PathVariable final String memberId) {
+        log.info("POST /retired-developers/rehire HTTP/1.1");
+        return withValidators(ResponseEntity.ok(), dMakerService.rehireDeveloper(memberId));
+    }
+
+    @PostMapping("/retire-developers")
+    public RetireDevelopers.Response retireDevelopers(
+            @Valid @RequestBody final RetireDevelopers.Request request
+    ) {
+        log.info("POST /retire-developers HTTP/1.1");
+        return retirementService.submit(request.getMemberIds());
+    }
+
+    @GetMapping("/retire-developers/{batchId}")
+    public RetireDevelopers.Response getRetirementBatch(@PathVariable final String batchId) {
+        return retirementService.getBatch(batchId);
+    }
+
+    /**
+     * 버전을 strong ETag 로, updatedAt 을 Last-Modified 로 내려준다.
+     * GET 에서 If-None-Match / If-Modified-Since 가 맞으면 HttpEntityMethodProcessor 가 본문 없이 304 로 바꾼다.
+     */
+    private ResponseEntity<DeveloperDetailDto> withValidators(
+            ResponseEntity.BodyBuilder response, DeveloperDetailDto developer
+    ) {
+        if (developer.getVersion() != null) response.eTag(developer.getVersion().toString());
+        if (developer.getUpdatedAt() != null) {
+            response.lastModified(developer.getUpdatedAt().atZone(ZoneId.systemDefault()));
+        }
+        return response.body(developer);
+    }
+
+    private String collectionETag(DeveloperCollectionVersion version) {
+        LocalDateTime lastModified = version.getLastModified();
+        String stamp = lastModified == null ? "0" : Long.toHexString(
+                lastModified.atZone(ZoneId.systemDefault()).toEpochSecond() * 1_000_000_000L + lastModified.getNano());
+        return "\"" + version.getDeveloperCount() + "-" + stamp + "\"";
+    }
+
+    /**
+     * If-Match 가 없거나 * 이면 버전을 검사하지 않는다(null). 쉼표로 나열된 ETag 는 모두 후보로 받는다.
+     * If-Match 는 강한 비교라 약한 ETag(W/"n")나 withValidators 가 내려주지 않은 태그는 어떤 버전과도 맞지 않는다. (412)
+     */
+    private Set<Long> parseVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+        Set<Long> versions = new HashSet<>();
+        for (String element : ifMatch.split(",")) {
+            String tag = element.trim();
+            if ("*".equals(tag)) return null;
+            Matcher matcher = VERSION_TAG.matcher(tag);
+            if (matcher.matches()) versions.add(Long.valueOf(matcher.group(1)));
+        }
+        return versions;
+    }
 }
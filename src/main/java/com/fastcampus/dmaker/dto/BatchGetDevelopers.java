@@ -0,0 +1,72 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.exception.DMakerErrorCode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_BATCH_GET_SIZE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+
+public class BatchGetDevelopers {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+
+        @NotEmpty
+        @Size(max = MAX_BATCH_GET_SIZE)
+        private List<@NotBlank String> memberIds;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+
+        private int foundCount;
+        private int notFoundCount;
+        private List<Result> results;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+
+        private String memberId;
+        private boolean found;
+        private DeveloperDetailDto developer;
+        private DMakerErrorCode errorCode;
+        private String message;
+
+        public static Result found(DeveloperDetailDto developer) {
+            return Result.builder()
+                    .memberId(developer.getMemberId())
+                    .found(true)
+                    .developer(developer)
+                    .build();
+        }
+
+        public static Result notFound(String memberId) {
+            return Result.builder()
+                    .memberId(memberId)
+                    .found(false)
+                    .errorCode(NO_DEVELOPER)
+                    .message(NO_DEVELOPER.getMessage())
+                    .build();
+        }
+    }
+}
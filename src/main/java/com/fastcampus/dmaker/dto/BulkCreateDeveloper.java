@@ -0,0 +1,69 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.exception.DMakerErrorCode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_BULK_CREATE_SIZE;
+
+public class BulkCreateDeveloper {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+
+        @NotEmpty
+        @Size(max = MAX_BULK_CREATE_SIZE)
+        private List<@Valid CreateDeveloper.Request> developers;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+
+        private int createdCount;
+        private int failedCount;
+        private List<Result> results;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+
+        private String memberId;
+        private boolean created;
+        private DMakerErrorCode errorCode;
+        private String message;
+
+        public static Result created(String memberId) {
+            return Result.builder()
+                    .memberId(memberId)
+                    .created(true)
+                    .build();
+        }
+
+        public static Result failed(String memberId, DMakerErrorCode errorCode) {
+            return Result.builder()
+                    .memberId(memberId)
+                    .created(false)
+                    .errorCode(errorCode)
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
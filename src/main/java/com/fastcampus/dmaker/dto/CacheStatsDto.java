@@ -0,0 +1,27 @@
+package com.fastcampus.dmaker.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheStatsDto {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+
+    public static CacheStatsDto from(long size, CacheStats stats) {
+        return CacheStatsDto.builder()
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+}
@@ -2,10 +2,14 @@ package com.fastcampus.dmaker.dto;
 
 import com.fastcampus.dmaker.code.StatusCode;
 import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
 import com.fastcampus.dmaker.type.DeveloperLevel;
 import com.fastcampus.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -19,6 +23,10 @@ public class DeveloperDetailDto {
     private StatusCode statusCode;
     private String name;
     private Integer age;
+    @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 
     public static DeveloperDetailDto fromEntity(Developer developer) {
         return DeveloperDetailDto.builder()
@@ -29,6 +37,22 @@ public class DeveloperDetailDto {
                 .statusCode(developer.getStatusCode())
                 .name(developer.getName())
                 .age(developer.getAge())
+                .version(developer.getVersion())
+                .updatedAt(developer.getUpdatedAt())
+                .build();
+    }
+
+    public static DeveloperDetailDto fromView(DeveloperDetailView developer) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .memberId(developer.getMemberId())
+                .statusCode(developer.getStatusCode())
+                .name(developer.getName())
+                .age(developer.getAge())
+                .version(developer.getVersion())
+                .updatedAt(developer.getUpdatedAt())
                 .build();
     }
 }
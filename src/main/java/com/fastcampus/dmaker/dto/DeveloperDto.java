@@ -1,6 +1,7 @@
 package com.fastcampus.dmaker.dto;
 
 import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
 import com.fastcampus.dmaker.type.DeveloperLevel;
 import com.fastcampus.dmaker.type.DeveloperSkillType;
 import lombok.*;
@@ -24,4 +25,12 @@ public class DeveloperDto {
                 .build();
     }
 
+    public static DeveloperDto fromView(DeveloperSummary developer) {
+        return DeveloperDto.builder()
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .memberId(developer.getMemberId())
+                .build();
+    }
+
 }
@@ -0,0 +1,39 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.entity.DeveloperEvent;
+import com.fastcampus.dmaker.type.DeveloperEventType;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperEventDto {
+    private Long offset;
+    private DeveloperEventType eventType;
+    private String memberId;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer experienceYears;
+    private StatusCode statusCode;
+    private LocalDateTime occurredAt;
+
+    public static DeveloperEventDto fromEntity(DeveloperEvent event) {
+        return DeveloperEventDto.builder()
+                .offset(event.getPublishSequence())
+                .eventType(event.getEventType())
+                .memberId(event.getMemberId())
+                .developerLevel(event.getDeveloperLevel())
+                .developerSkillType(event.getDeveloperSkillType())
+                .experienceYears(event.getExperienceYears())
+                .statusCode(event.getStatusCode())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
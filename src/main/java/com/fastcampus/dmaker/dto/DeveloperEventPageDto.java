@@ -0,0 +1,15 @@
+package com.fastcampus.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperEventPageDto {
+    private List<DeveloperEventDto> events;
+    private Long nextOffset;
+}
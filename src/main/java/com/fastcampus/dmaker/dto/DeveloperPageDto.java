@@ -0,0 +1,16 @@
+package com.fastcampus.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperPageDto {
+    private List<DeveloperDto> developers;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,21 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperStatisticsDto {
+    private long employedCount;
+    private long retiredCount;
+    private double averageExperienceYears;
+    private Map<DeveloperLevel, Map<DeveloperSkillType, Long>> employedCountByLevelAndSkill;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.dmaker.dto;
+
+import lombok.*;
+
+public class ImportDevelopers {
+
+    /**
+     * resumedFromLine 이 0 보다 크면 이전 checkpoint 이후부터 이어서 처리한 것이다.
+     * 건수는 이전 실행분까지 합친 누적값이다.
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+
+        private String importId;
+        private long resumedFromLine;
+        private long lastLine;
+        private long createdCount;
+        private long failedCount;
+        private String errorReport;
+
+    }
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.code.RetirementStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_BULK_RETIRE_SIZE;
+
+public class RetireDevelopers {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+
+        @NotEmpty
+        @Size(max = MAX_BULK_RETIRE_SIZE)
+        private List<String> memberIds;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+
+        private String batchId;
+        private RetirementStatus status;
+        private int requestedCount;
+        private int processedCount;
+        private int retiredCount;
+        private int alreadyRetiredCount;
+        private int notFoundCount;
+
+    }
+
+    /**
+     * 한 chunk 를 처리한 결과. RetirementService 가 batch 전체 진행 상황에 더한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkResult {
+
+        private final int retiredCount;
+        private final int alreadyRetiredCount;
+        private final int notFoundCount;
+
+    }
+}
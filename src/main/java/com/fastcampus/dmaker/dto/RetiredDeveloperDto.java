@@ -0,0 +1,46 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RetiredDeveloperDto {
+    private Long id;
+    private String memberId;
+    private String name;
+    private Integer age;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer experienceYears;
+    private LocalDateTime hiredAt;
+    private LocalDateTime retiredAt;
+    private LocalDateTime rehiredAt;
+    private Long tenureDays;
+
+    public static RetiredDeveloperDto fromEntity(RetiredDeveloper retiredDeveloper) {
+        LocalDateTime hiredAt = retiredDeveloper.getHiredAt();
+        LocalDateTime retiredAt = retiredDeveloper.getRetiredAt();
+        return RetiredDeveloperDto.builder()
+                .id(retiredDeveloper.getId())
+                .memberId(retiredDeveloper.getMemberId())
+                .name(retiredDeveloper.getName())
+                .age(retiredDeveloper.getAge())
+                .developerLevel(retiredDeveloper.getDeveloperLevel())
+                .developerSkillType(retiredDeveloper.getDeveloperSkillType())
+                .experienceYears(retiredDeveloper.getExperienceYears())
+                .hiredAt(hiredAt)
+                .retiredAt(retiredAt)
+                .rehiredAt(retiredDeveloper.getRehiredAt())
+                .tenureDays(hiredAt == null || retiredAt == null ? null : Duration.between(hiredAt, retiredAt).toDays())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fastcampus.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RetiredDeveloperPageDto {
+    private List<RetiredDeveloperDto> retiredDevelopers;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,69 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+public class SearchDeveloper {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+        private StatusCode statusCode;
+
+        @Min(0)
+        private Integer minExperienceYears;
+        @Max(20)
+        private Integer maxExperienceYears;
+        @Min(18)
+        private Integer minAge;
+        private Integer maxAge;
+
+        @Min(0)
+        @Builder.Default
+        private int page = 0;
+        @Min(1)
+        @Max(MAX_PAGE_SIZE)
+        @Builder.Default
+        private int size = DEFAULT_PAGE_SIZE;
+        @Pattern(regexp = "id|memberId|experienceYears|age", message = "sort must be one of id, memberId, experienceYears, age")
+        @Builder.Default
+        private String sort = "id";
+        @NotNull
+        @Builder.Default
+        private Sort.Direction direction = Sort.Direction.ASC;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+
+        private List<DeveloperDetailDto> developers;
+        private int page;
+        private int size;
+        private long totalElements;
+        private boolean hasNext;
+
+    }
+}
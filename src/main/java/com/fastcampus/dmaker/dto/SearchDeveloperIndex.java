@@ -0,0 +1,55 @@
+package com.fastcampus.dmaker.dto;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+public class SearchDeveloperIndex {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+        @Builder.Default
+        private StatusCode statusCode = StatusCode.EMPLOYED;
+
+        @Min(0)
+        @Builder.Default
+        private int page = 0;
+        @Min(0)
+        @Max(MAX_PAGE_SIZE)
+        @Builder.Default
+        private int size = DEFAULT_PAGE_SIZE;
+
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+
+        private List<String> memberIds;
+        private int page;
+        private int size;
+        private long totalElements;
+        private boolean hasNext;
+        private LocalDateTime indexedAt;
+
+    }
+}
@@ -5,6 +5,8 @@ import com.fastcampus.dmaker.type.DeveloperLevel;
 import com.fastcampus.dmaker.type.DeveloperSkillType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,10 +19,25 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = Developer.MEMBER_ID_UNIQUE_CONSTRAINT, columnNames = "member_id"),
+        indexes = {
+                @Index(name = "idx_developer_status_code_id", columnList = "status_code, id"),
+                @Index(name = "idx_developer_status_updated_at", columnList = "status_code, updated_at"),
+                @Index(name = "idx_developer_status_level_skill",
+                        columnList = "status_code, developer_level, developer_skill_type, experience_years")
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Developer {
 
-    @Id @GeneratedValue
+    public static final String MEMBER_ID_UNIQUE_CONSTRAINT = "uk_developer_member_id";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_seq")
+    @SequenceGenerator(name = "developer_seq", sequenceName = "developer_seq", allocationSize = 50)
     protected Long id;
 
     @Enumerated(EnumType.STRING)
@@ -37,6 +54,9 @@ public class Developer {
     @Enumerated(EnumType.STRING)
     private StatusCode statusCode;
 
+    @Version
+    private Long version;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
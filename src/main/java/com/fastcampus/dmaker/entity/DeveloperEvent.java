@@ -0,0 +1,58 @@
+package com.fastcampus.dmaker.entity;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperEventType;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개발자 변경 이벤트 outbox. 변경과 같은 트랜잭션에서 기록된다.
+ * id 는 미리 할당받은 순서라 커밋 순서와 다를 수 있어서, relay 가 전달하면서 매기는 publishSequence 를 소비자 offset 으로 쓴다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_developer_event_published_at_id", columnList = "published_at, id"),
+        @Index(name = "uk_developer_event_publish_sequence", columnList = "publish_sequence", unique = true)
+})
+@EntityListeners(AuditingEntityListener.class)
+public class DeveloperEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_event_seq")
+    @SequenceGenerator(name = "developer_event_seq", sequenceName = "developer_event_seq", allocationSize = 50)
+    protected Long id;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperEventType eventType;
+
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private Integer experienceYears;
+
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    private Long publishSequence;
+}
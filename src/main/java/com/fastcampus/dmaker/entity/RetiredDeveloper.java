@@ -1,9 +1,8 @@
 package com.fastcampus.dmaker.entity;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.Id;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -11,21 +10,43 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 퇴직 시점의 Developer 를 그대로 옮겨 둔 보관 행. 퇴직할 때마다 한 행씩 쌓이고, 재입사하면 rehiredAt 이 채워진다.
+ * 자주 읽히지 않으므로 2차 캐시에 올리지 않는다.
+ */
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_retired_developer_member_id", columnList = "member_id, rehired_at"),
+        @Index(name = "idx_retired_developer_rehired_at_id", columnList = "rehired_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class RetiredDeveloper {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "retired_developer_seq")
+    @SequenceGenerator(name = "retired_developer_seq", sequenceName = "retired_developer_seq", allocationSize = 50)
     protected Long id;
 
+    private Long developerId;
     private String memberId;
     private String name;
+    private Integer age;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private Integer experienceYears;
+    private LocalDateTime hiredAt;
+    private LocalDateTime retiredAt;
+    private LocalDateTime rehiredAt;
 
     @CreatedDate
     private LocalDateTime createdAt;
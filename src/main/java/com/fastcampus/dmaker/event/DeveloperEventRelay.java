@@ -0,0 +1,67 @@
+package com.fastcampus.dmaker.event;
+
+import com.fastcampus.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.dmaker.entity.DeveloperEvent;
+import com.fastcampus.dmaker.repository.DeveloperEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.BULK_BATCH_SIZE;
+
+/**
+ * 아직 전달되지 않은 outbox 이벤트를 id 순서대로 sink 에 넘기고 publishedAt 과 publishSequence 를 채운다. (at-least-once)
+ * publishSequence 는 relay 트랜잭션마다 이어서 매기므로, 늦게 커밋된 이벤트도 이미 읽힌 offset 뒤에 붙는다.
+ */
+@Slf4j
+@Component
+public class DeveloperEventRelay {
+
+    private final DeveloperEventRepository developerEventRepository;
+    private final DeveloperEventSink developerEventSink;
+    private final Duration retention;
+
+    public DeveloperEventRelay(DeveloperEventRepository developerEventRepository,
+                               DeveloperEventSink developerEventSink,
+                               @Value("${dmaker.events.retention}") Duration retention) {
+        this.developerEventRepository = developerEventRepository;
+        this.developerEventSink = developerEventSink;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.events.relay-interval}")
+    @Transactional
+    public void relay() {
+        List<DeveloperEvent> events = developerEventRepository
+                .findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, BULK_BATCH_SIZE));
+        if (events.isEmpty()) return;
+
+        long publishSequence = developerEventRepository.findLastPublishSequence();
+        LocalDateTime publishedAt = LocalDateTime.now();
+        for (DeveloperEvent event : events) {
+            event.setPublishSequence(++publishSequence);
+            event.setPublishedAt(publishedAt);
+        }
+        developerEventSink.publish(events.stream().map(DeveloperEventDto::fromEntity).toList());
+        log.debug("relayed {} developer events", events.size());
+    }
+
+    /**
+     * 전달된 지 retention 이 지난 이벤트를 지운다. 그보다 오래된 offset 으로 읽는 소비자는 지워진 이벤트를 받지 못한다.
+     */
+    @Scheduled(fixedDelayString = "${dmaker.events.cleanup-interval}",
+            initialDelayString = "${dmaker.events.cleanup-interval}")
+    @Transactional
+    public void deletePublished() {
+        int deleted = developerEventRepository.deletePublishedBefore(
+                LocalDateTime.now().minus(retention), developerEventRepository.findLastPublishSequence());
+        if (deleted > 0) log.info("deleted {} published developer events", deleted);
+    }
+}
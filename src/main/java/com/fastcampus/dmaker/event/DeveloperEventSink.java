@@ -0,0 +1,12 @@
+package com.fastcampus.dmaker.event;
+
+import com.fastcampus.dmaker.dto.DeveloperEventDto;
+
+import java.util.List;
+
+/**
+ * DeveloperEventRelay 가 outbox 에서 꺼낸 이벤트를 내보내는 대상. 예외를 던지면 해당 묶음은 다음 주기에 다시 전달된다.
+ */
+public interface DeveloperEventSink {
+    void publish(List<DeveloperEventDto> events);
+}
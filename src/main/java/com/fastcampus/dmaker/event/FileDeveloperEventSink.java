@@ -0,0 +1,48 @@
+package com.fastcampus.dmaker.event;
+
+import com.fastcampus.dmaker.dto.DeveloperEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * 이벤트를 로컬 파일에 NDJSON 으로 덧붙인다. 외부 브로커 없이도 동작한다.
+ */
+@Component
+@ConditionalOnProperty(name = "dmaker.events.sink", havingValue = "file", matchIfMissing = true)
+public class FileDeveloperEventSink implements DeveloperEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileDeveloperEventSink(ObjectMapper objectMapper, @Value("${dmaker.events.file}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<DeveloperEventDto> events) {
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, CREATE, APPEND, WRITE)) {
+                for (DeveloperEventDto event : events) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
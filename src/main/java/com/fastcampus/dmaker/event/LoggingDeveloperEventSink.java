@@ -0,0 +1,20 @@
+package com.fastcampus.dmaker.event;
+
+import com.fastcampus.dmaker.dto.DeveloperEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dmaker.events.sink", havingValue = "log")
+public class LoggingDeveloperEventSink implements DeveloperEventSink {
+
+    @Override
+    public void publish(List<DeveloperEventDto> events) {
+        events.forEach(event -> log.info("developer event. offset: {}, type: {}, memberId: {}",
+                event.getOffset(), event.getEventType(), event.getMemberId()));
+    }
+}
@@ -7,8 +7,15 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum DMakerErrorCode {
     NO_DEVELOPER("해당되는 개발자가 없습니다."),
+    NO_RETIRED_DEVELOPER("해당되는 퇴직 개발자가 없습니다."),
     DUPLICATED_MEMBER_ID("MemberId가 중복되는 개발자가 있습니다."),
     LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레벨과 연차가 맞지 않습니다."),
+    DEVELOPER_VERSION_CONFLICT("다른 요청이 먼저 개발자 정보를 수정했습니다. 최신 정보를 다시 조회해 주세요."),
+    NO_RETIREMENT_BATCH("해당되는 퇴직 처리 요청이 없습니다."),
+    RETIREMENT_QUEUE_FULL("퇴직 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+    IMPORT_ALREADY_RUNNING("같은 importId 로 진행 중인 가져오기가 있습니다."),
+    DEVELOPER_INDEX_NOT_READY("개발자 색인을 만드는 중입니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_REQUESTS("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     INTERNAL_SERVER_ERROR("서버에 오류가 발생했습니다."),
     INVALID_REQUEST("잘못된 요청입니다.");
 
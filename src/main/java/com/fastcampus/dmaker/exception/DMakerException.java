@@ -2,22 +2,39 @@ package com.fastcampus.dmaker.exception;
 
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 비즈니스 규칙 위반을 알리는 예외. 스택 트레이스를 채우지 않으며,
+ * 상세 메시지가 없는 경우 {@link #of(DMakerErrorCode)} 로 에러 코드별 미리 만든 인스턴스를 재사용한다.
+ */
 @Getter
 public class DMakerException extends RuntimeException {
 
-    private DMakerErrorCode dMakerErrorCode;
-    private String detailMessage;
+    private static final Map<DMakerErrorCode, DMakerException> PREALLOCATED = new EnumMap<>(DMakerErrorCode.class);
+
+    static {
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            PREALLOCATED.put(errorCode, new DMakerException(errorCode));
+        }
+    }
+
+    private final DMakerErrorCode dMakerErrorCode;
+    private final String detailMessage;
 
     public DMakerException(DMakerErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.dMakerErrorCode = errorCode;
-        this.detailMessage = errorCode.getMessage();
+        this(errorCode, errorCode.getMessage());
     }
 
     public DMakerException(DMakerErrorCode errorCode, String detailMessage) {
-        super(detailMessage);
+        super(detailMessage, null, false, false);
         this.dMakerErrorCode = errorCode;
         this.detailMessage = detailMessage;
     }
 
+    public static DMakerException of(DMakerErrorCode errorCode) {
+        return PREALLOCATED.get(errorCode);
+    }
+
 }
@@ -1,8 +1,13 @@
 package com.fastcampus.dmaker.exception;
 
 import com.fastcampus.dmaker.dto.DMakerErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,17 +17,22 @@ import static com.fastcampus.dmaker.exception.DMakerErrorCode.*;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class DMakerExceptionHandler {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(
+    public ResponseEntity<DMakerErrorResponse> handleException(
             DMakerException e, HttpServletRequest request
     ) {
         log.error("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
-        return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .message(e.getDetailMessage())
-                .build();
+        countError(e.getDMakerErrorCode());
+        return ResponseEntity.status(statusOf(e.getDMakerErrorCode()))
+                .body(DMakerErrorResponse.builder()
+                        .errorCode(e.getDMakerErrorCode())
+                        .message(e.getDetailMessage())
+                        .build());
     }
 
     @ExceptionHandler(value = {
@@ -33,6 +43,7 @@ public class DMakerExceptionHandler {
             Exception e, HttpServletRequest request
     ) {
         log.error("url: {}, message: {}", request.getRequestURI(), e.getMessage());
+        countError(INVALID_REQUEST);
         return DMakerErrorResponse.builder()
                 .errorCode(INVALID_REQUEST)
                 .message(INVALID_REQUEST.getMessage())
@@ -44,10 +55,25 @@ public class DMakerExceptionHandler {
             Exception e, HttpServletRequest request
     ) {
         log.error("url: {}, message: {}", request.getRequestURI(), e.getMessage());
+        countError(INTERNAL_SERVER_ERROR);
         return DMakerErrorResponse.builder()
                 .errorCode(INTERNAL_SERVER_ERROR)
                 .message(INTERNAL_SERVER_ERROR.getMessage())
                 .build();
     }
 
+    private HttpStatus statusOf(DMakerErrorCode errorCode) {
+        return switch (errorCode) {
+            case DEVELOPER_VERSION_CONFLICT -> HttpStatus.PRECONDITION_FAILED;
+            case TOO_MANY_REQUESTS -> HttpStatus.TOO_MANY_REQUESTS;
+            case DEVELOPER_INDEX_NOT_READY -> HttpStatus.SERVICE_UNAVAILABLE;
+            default -> HttpStatus.OK;
+        };
+    }
+
+    private void countError(DMakerErrorCode errorCode) {
+        meterRegistry.ifAvailable(registry ->
+                registry.counter("dmaker.errors", "errorCode", errorCode.name()).increment());
+    }
+
 }
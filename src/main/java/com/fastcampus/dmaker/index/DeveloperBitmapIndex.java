@@ -0,0 +1,152 @@
+package com.fastcampus.dmaker.index;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * memberId 마다 0 부터 차례로 slot 번호를 붙이고, 레벨/스킬/상태 값마다 해당 slot 의 bit 를 켠 BitSet 을 둔다.
+ * 조건 검색은 BitSet and 연산과 cardinality 만으로 끝나므로 DB 를 거치지 않는다.
+ * 퇴직한 개발자도 RETIRED 로 남겨 두므로 slot 은 회수하지 않는다.
+ */
+public class DeveloperBitmapIndex {
+
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+
+    // 64-bit JVM, compressed oops 기준: HashMap.Node 32 + 테이블 칸 4 + Integer 16, String 헤더 24 + byte[] 헤더 16
+    private static final long SLOT_ENTRY_BYTES = 32 + 4 + 16;
+    private static final long STRING_OVERHEAD_BYTES = 24 + 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final BitSet[] levelBits = newBitSets(LEVELS.length);
+    private final BitSet[] skillTypeBits = newBitSets(SKILL_TYPES.length);
+    private final BitSet[] statusCodeBits = newBitSets(STATUS_CODES.length);
+    private String[] memberIds = new String[1024];
+    private long memberIdBytes;
+
+    /**
+     * memberId 의 현재 값을 기록한다. 같은 memberId 를 다시 넣으면 이전 값의 bit 를 끄고 새 값으로 바꾼다.
+     */
+    public void put(String memberId, DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(memberId);
+            set(levelBits, slot, level == null ? -1 : level.ordinal());
+            set(skillTypeBits, slot, skillType == null ? -1 : skillType.ordinal());
+            set(statusCodeBits, slot, statusCode == null ? -1 : statusCode.ordinal());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * null 인 조건은 전체로 본다. 결과 memberId 는 slot 순서(최초 색인 순서)로 offset 부터 limit 건까지 돌려준다.
+     */
+    public Result find(DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode,
+                       int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = intersect(level, skillType, statusCode);
+            int totalCount = matched.cardinality();
+            List<String> page = new ArrayList<>(Math.max(0, Math.min(limit, totalCount - offset)));
+            int skipped = 0;
+            for (int slot = matched.nextSetBit(0); slot >= 0 && page.size() < limit; slot = matched.nextSetBit(slot + 1)) {
+                if (skipped++ < offset) continue;
+                page.add(memberIds[slot]);
+            }
+            return new Result(totalCount, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode) {
+        lock.readLock().lock();
+        try {
+            return intersect(level, skillType, statusCode).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BitSet 의 word 배열, slot → memberId 배열, memberId → slot 맵과 memberId 문자열을 합한 추정치.
+     */
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bitSetBytes = 0;
+            for (BitSet[] bitSets : List.of(levelBits, skillTypeBits, statusCodeBits)) {
+                for (BitSet bitSet : bitSets) bitSetBytes += bitSet.size() / Byte.SIZE;
+            }
+            long slotArrayBytes = (long) memberIds.length * 4;
+            long slotMapBytes = slots.size() * (SLOT_ENTRY_BYTES + STRING_OVERHEAD_BYTES) + memberIdBytes;
+            return bitSetBytes + slotArrayBytes + slotMapBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet intersect(DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode) {
+        BitSet matched = new BitSet(slots.size());
+        matched.set(0, slots.size());
+        if (level != null) matched.and(levelBits[level.ordinal()]);
+        if (skillType != null) matched.and(skillTypeBits[skillType.ordinal()]);
+        if (statusCode != null) matched.and(statusCodeBits[statusCode.ordinal()]);
+        return matched;
+    }
+
+    private int slotOf(String memberId) {
+        Integer slot = slots.get(memberId);
+        if (slot != null) return slot;
+
+        int newSlot = slots.size();
+        if (newSlot == memberIds.length) memberIds = Arrays.copyOf(memberIds, newSlot * 2);
+        memberIds[newSlot] = memberId;
+        memberIdBytes += memberId.length();
+        slots.put(memberId, newSlot);
+        return newSlot;
+    }
+
+    private static void set(BitSet[] bitSets, int slot, int ordinal) {
+        for (int i = 0; i < bitSets.length; i++) {
+            bitSets[i].set(slot, i == ordinal);
+        }
+    }
+
+    private static BitSet[] newBitSets(int length) {
+        BitSet[] bitSets = new BitSet[length];
+        for (int i = 0; i < length; i++) bitSets[i] = new BitSet();
+        return bitSets;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final long totalCount;
+        private final List<String> memberIds;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fastcampus.dmaker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate 가 실행하는 SQL 수를 현재 스레드에 묶인 요청 카운터에 센다. 묶인 카운터가 없으면(스케줄 작업 등) 세지 않는다.
+ * QueryCountInterceptor 가 요청마다 카운터를 만들고, 비동기 응답이면 그 작업 스레드에도 같은 카운터를 묶는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = COUNTER.get();
+        if (counter != null) counter.incrementAndGet();
+        return sql;
+    }
+
+    public static AtomicInteger start() {
+        AtomicInteger counter = new AtomicInteger();
+        COUNTER.set(counter);
+        return counter;
+    }
+
+    public static void bind(AtomicInteger counter) {
+        COUNTER.set(counter);
+    }
+
+    public static void clear() {
+        COUNTER.remove();
+    }
+}
@@ -0,0 +1,74 @@
+package com.fastcampus.dmaker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청마다 만든 카운터를 request 속성에 두고 요청이 끝날 때 dmaker.db.queries 로 기록한다.
+ * StreamingResponseBody 처럼 비동기 작업 스레드에서 쿼리를 실행하는 응답은 그 스레드에도 같은 카운터를 묶고, ASYNC 디스패치가 끝날 때 합계를 기록한다.
+ */
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String COUNTER = QueryCountInterceptor.class.getName() + ".counter";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                && request.getAttribute(COUNTER) instanceof AtomicInteger counter) {
+            QueryCountInspector.bind(counter);
+            return true;
+        }
+        request.setAttribute(COUNTER, QueryCountInspector.start());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        QueryCountInspector.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        QueryCountInspector.clear();
+        if (!(request.getAttribute(COUNTER) instanceof AtomicInteger counter)) return;
+        request.removeAttribute(COUNTER);
+
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("dmaker.db.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(counter.get());
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(COUNTER, RequestAttributes.SCOPE_REQUEST) instanceof AtomicInteger counter) {
+            QueryCountInspector.bind(counter);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        QueryCountInspector.clear();
+    }
+}
@@ -0,0 +1,147 @@
+package com.fastcampus.dmaker.ratelimit;
+
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * 컨트롤러 호출 전에 API x 클라이언트 버킷, API 전체 버킷, 동시 처리 제한 순으로 검사하고 하나라도 걸리면 TOO_MANY_REQUESTS(429)로 거절한다.
+ * 클라이언트 버킷을 먼저 보므로 한도를 넘긴 클라이언트의 요청은 다른 클라이언트와 나눠 쓰는 전체 버킷을 줄이지 않는다.
+ * 뒤 단계에서 거절된 요청은 앞 단계에서 꺼낸 토큰을 되돌리므로, 처리되지 않은 요청이 클라이언트 한도를 쓰지 않는다.
+ * 클라이언트는 clientIdHeader 헤더로 구분하고 없으면 원격 주소를 쓴다. 오래 요청이 없는 클라이언트 버킷은 Caffeine 이 치운다.
+ */
+public class RateLimitInterceptor implements AsyncHandlerInterceptor, Ordered {
+
+    private static final String STARTED_AT = RateLimitInterceptor.class.getName() + ".startedAt";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> endpointBuckets = new HashMap<>();
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        long now = System.nanoTime();
+        properties.getEndpoints().forEach((endpoint, limit) -> {
+            if (limit.getTotal() != null) endpointBuckets.put(endpoint, newBucket(limit.getTotal(), now));
+        });
+        this.clientBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getClientIdleTimeout())
+                .maximumSize(properties.getMaxClients())
+                .build();
+
+        RateLimitProperties.Concurrency concurrency = properties.getConcurrency();
+        this.concurrencyLimiter = concurrency.isEnabled()
+                ? new AdaptiveConcurrencyLimiter(concurrency.getInitialLimit(), concurrency.getMinLimit(),
+                concurrency.getMaxLimit(), concurrency.getTargetLatency().toNanos(), concurrency.getBackoffRatio())
+                : null;
+        if (concurrencyLimiter != null) {
+            Gauge.builder("dmaker.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .register(meterRegistry);
+            Gauge.builder("dmaker.concurrency.in-flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) return true;
+        long now = System.nanoTime();
+        String endpoint = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        RateLimitProperties.EndpointLimit limit = properties.getEndpoints().get(endpoint);
+        TokenBucket clientBucket = null;
+        TokenBucket endpointBucket = null;
+        if (limit != null) {
+            if (limit.getPerClient() != null) {
+                String key = endpoint + "|" + clientId(request);
+                clientBucket = clientBuckets.get(key, k -> newBucket(limit.getPerClient(), now));
+            }
+            endpointBucket = endpointBuckets.get(endpoint);
+
+            long waitNanos = consume(clientBucket, now);
+            if (waitNanos == 0) {
+                waitNanos = consume(endpointBucket, now);
+                if (waitNanos > 0) refund(clientBucket);
+            }
+            if (waitNanos > 0) reject(response, endpoint, "rate", waitNanos);
+        }
+
+        if (concurrencyLimiter != null) {
+            if (!concurrencyLimiter.tryAcquire()) {
+                refund(clientBucket);
+                refund(endpointBucket);
+                reject(response, endpoint, "concurrency", 0);
+            }
+            request.setAttribute(STARTED_AT, now);
+        }
+        return true;
+    }
+
+    /**
+     * StreamingResponseBody 처럼 비동기로 넘어가는 요청은 여기서 바로 반납하고 지연 시간은 반영하지 않는다.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        if (request.getAttribute(STARTED_AT) == null) return;
+        request.removeAttribute(STARTED_AT);
+        concurrencyLimiter.release(-1);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (startedAt == null) return;
+        request.removeAttribute(STARTED_AT);
+        concurrencyLimiter.release(System.nanoTime() - (long) startedAt);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private long consume(TokenBucket bucket, long now) {
+        return bucket == null ? 0 : bucket.tryConsume(now);
+    }
+
+    private void refund(TokenBucket bucket) {
+        if (bucket != null) bucket.refund();
+    }
+
+    private TokenBucket newBucket(RateLimitProperties.Bandwidth bandwidth, long now) {
+        return new TokenBucket(bandwidth.getCapacity(), bandwidth.getRefillPerSecond(), now);
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(properties.getClientIdHeader());
+        return clientId == null || clientId.isBlank() ? request.getRemoteAddr() : clientId;
+    }
+
+    private void reject(HttpServletResponse response, String endpoint, String reason, long waitNanos) {
+        meterRegistry.counter("dmaker.rate-limit.rejected", "endpoint", endpoint, "reason", reason).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        throw DMakerException.of(TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.dmaker.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * dmaker.rate-limit 설정. endpoints 의 키는 "METHOD 패턴" (예: "[POST /create-developer]") 이며,
+ * 목록에 없는 API 는 토큰 버킷 없이 동시 처리 제한만 받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled;
+    private String clientIdHeader;
+    private Duration clientIdleTimeout;
+    private long maxClients;
+    private Map<String, EndpointLimit> endpoints = new LinkedHashMap<>();
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class EndpointLimit {
+
+        private Bandwidth total;
+        private Bandwidth perClient;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Bandwidth {
+
+        private long capacity;
+        private double refillPerSecond;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        private boolean enabled;
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private Duration targetLatency;
+        private double backoffRatio;
+
+    }
+}
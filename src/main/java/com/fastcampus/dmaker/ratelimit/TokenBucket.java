@@ -0,0 +1,43 @@
+package com.fastcampus.dmaker.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA 방식의 토큰 버킷. 토큰 수 대신 "다음 요청이 도착해도 되는 이론상의 시각" 하나만 AtomicLong 에 두고 CAS 로 갱신하므로 락이 없다.
+ * 처음에는 capacity 만큼 한 번에 통과시키고 이후에는 초당 refillPerSecond 개씩 채워진다.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다. 0 이면 통과이고, 양수이면 토큰이 생길 때까지 기다려야 하는 나노초다. (이 경우 상태는 바뀌지 않는다)
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) return waitNanos;
+            if (theoreticalArrivalTime.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    /**
+     * tryConsume 으로 꺼낸 토큰 하나를 되돌린다. 뒤따르는 검사에서 거절돼 쓰지 않은 토큰에 쓴다.
+     */
+    public void refund() {
+        theoreticalArrivalTime.addAndGet(-emissionIntervalNanos);
+    }
+}
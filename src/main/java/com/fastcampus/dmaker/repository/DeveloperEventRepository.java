@@ -0,0 +1,27 @@
+package com.fastcampus.dmaker.repository;
+
+import com.fastcampus.dmaker.entity.DeveloperEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeveloperEventRepository extends JpaRepository<DeveloperEvent, Long> {
+    List<DeveloperEvent> findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(Long publishSequence, Pageable pageable);
+    List<DeveloperEvent> findByPublishedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    @Query("select coalesce(max(e.publishSequence), 0) from DeveloperEvent e")
+    long findLastPublishSequence();
+
+    /**
+     * 마지막 publishSequence 행은 남겨 다음 relay 가 이어서 번호를 매길 수 있게 한다.
+     */
+    @Modifying
+    @Query("delete from DeveloperEvent e where e.publishedAt < :publishedBefore and e.publishSequence < :lastPublishSequence")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore,
+                              @Param("lastPublishSequence") long lastPublishSequence);
+}
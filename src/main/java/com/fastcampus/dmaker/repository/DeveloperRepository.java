@@ -2,12 +2,81 @@ package com.fastcampus.dmaker.repository;
 
 import com.fastcampus.dmaker.code.StatusCode;
 import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.repository.projection.DeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.DeveloperIndexRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperStatisticsRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface DeveloperRepository extends JpaRepository<Developer, Long>, JpaSpecificationExecutor<Developer> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Developer> findByMemberId(String memberId);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Optional<DeveloperDetailView> findDetailByMemberId(String memberId);
+
     List<Developer> findByStatusCodeEquals(StatusCode statusCode);
+
+    List<DeveloperDetailView> findByMemberIdIn(Collection<String> memberIds);
+
+    boolean existsByMemberId(String memberId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Developer> findByMemberIdInAndStatusCode(Collection<String> memberIds, StatusCode statusCode);
+
+    @Query("select d.statusCode as statusCode, d.developerLevel as developerLevel, "
+            + "d.developerSkillType as developerSkillType, count(d) as developerCount, "
+            + "sum(d.experienceYears) as experienceYearsSum "
+            + "from Developer d group by d.statusCode, d.developerLevel, d.developerSkillType")
+    List<DeveloperStatisticsRow> countGroupByStatusCodeAndLevelAndSkillType();
+
+    @Query("select count(d) as developerCount, max(d.updatedAt) as lastModified "
+            + "from Developer d where d.statusCode = :statusCode")
+    DeveloperCollectionVersion findCollectionVersionByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    @Query("select d.memberId from Developer d where d.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    List<DeveloperSummary> findByStatusCodeEqualsAndIdGreaterThanOrderByIdAsc(
+            StatusCode statusCode, Long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<DeveloperSummary> streamByStatusCodeEqualsOrderByIdAsc(StatusCode statusCode);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<DeveloperExportView> streamByIdGreaterThanOrderByIdAsc(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select d.memberId as memberId, d.developerLevel as developerLevel, "
+            + "d.developerSkillType as developerSkillType, d.statusCode as statusCode "
+            + "from Developer d order by d.id")
+    Stream<DeveloperIndexRow> streamIndexRows();
 }
@@ -0,0 +1,46 @@
+package com.fastcampus.dmaker.repository;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 검색 조건이 null 이면 null Specification 을 돌려주어 조건에서 빠지도록 한다.
+ */
+public class DeveloperSpecifications {
+
+    private DeveloperSpecifications() {
+    }
+
+    public static Specification<Developer> statusCodeEquals(StatusCode statusCode) {
+        return statusCode == null ? null
+                : (root, query, cb) -> cb.equal(root.get("statusCode"), statusCode);
+    }
+
+    public static Specification<Developer> developerLevelEquals(DeveloperLevel developerLevel) {
+        return developerLevel == null ? null
+                : (root, query, cb) -> cb.equal(root.get("developerLevel"), developerLevel);
+    }
+
+    public static Specification<Developer> developerSkillTypeEquals(DeveloperSkillType developerSkillType) {
+        return developerSkillType == null ? null
+                : (root, query, cb) -> cb.equal(root.get("developerSkillType"), developerSkillType);
+    }
+
+    public static Specification<Developer> experienceYearsBetween(Integer min, Integer max) {
+        return between("experienceYears", min, max);
+    }
+
+    public static Specification<Developer> ageBetween(Integer min, Integer max) {
+        return between("age", min, max);
+    }
+
+    private static Specification<Developer> between(String attribute, Integer min, Integer max) {
+        if (min == null && max == null) return null;
+        if (min == null) return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), max);
+        if (max == null) return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), min);
+        return (root, query, cb) -> cb.between(root.get(attribute), min, max);
+    }
+}
@@ -1,7 +1,53 @@
 package com.fastcampus.dmaker.repository;
 
 import com.fastcampus.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperIndexRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * rehiredAt 이 null 인 행이 현재 퇴직 상태인 보관 행이다. memberId 마다 최대 한 건이다.
+ */
 public interface RetiredDeveloperRepository extends JpaRepository<RetiredDeveloper, Long> {
+
+    Optional<RetiredDeveloper> findFirstByMemberIdAndRehiredAtIsNullOrderByIdDesc(String memberId);
+
+    boolean existsByMemberIdAndRehiredAtIsNull(String memberId);
+
+    long countByRehiredAtIsNull();
+
+    @Query("select r.memberId from RetiredDeveloper r where r.memberId in :memberIds and r.rehiredAt is null")
+    List<String> findRetiredMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    List<RetiredDeveloper> findByRehiredAtIsNullAndIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    List<RetiredDeveloper> findByMemberIdAndIdLessThanOrderByIdDesc(String memberId, Long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<RetiredDeveloperExportView> streamByIdGreaterThanOrderByIdAsc(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r.memberId as memberId, r.developerLevel as developerLevel, "
+            + "r.developerSkillType as developerSkillType "
+            + "from RetiredDeveloper r where r.rehiredAt is null order by r.id")
+    Stream<RetiredDeveloperIndexRow> streamIndexRows();
 }
@@ -0,0 +1,8 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface DeveloperCollectionVersion {
+    Long getDeveloperCount();
+    LocalDateTime getLastModified();
+}
@@ -0,0 +1,21 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+
+import java.time.LocalDateTime;
+
+public interface DeveloperDetailView {
+    Long getId();
+    DeveloperLevel getDeveloperLevel();
+    DeveloperSkillType getDeveloperSkillType();
+    Integer getExperienceYears();
+    String getMemberId();
+    StatusCode getStatusCode();
+    String getName();
+    Integer getAge();
+    Long getVersion();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
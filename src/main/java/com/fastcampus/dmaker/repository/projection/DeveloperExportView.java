@@ -0,0 +1,20 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+
+import java.time.LocalDateTime;
+
+public interface DeveloperExportView {
+    Long getId();
+    String getMemberId();
+    String getName();
+    Integer getAge();
+    DeveloperLevel getDeveloperLevel();
+    DeveloperSkillType getDeveloperSkillType();
+    Integer getExperienceYears();
+    StatusCode getStatusCode();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
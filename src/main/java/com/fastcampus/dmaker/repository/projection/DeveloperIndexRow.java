@@ -0,0 +1,12 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+
+public interface DeveloperIndexRow {
+    String getMemberId();
+    DeveloperLevel getDeveloperLevel();
+    DeveloperSkillType getDeveloperSkillType();
+    StatusCode getStatusCode();
+}
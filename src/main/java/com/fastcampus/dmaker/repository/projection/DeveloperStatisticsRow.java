@@ -0,0 +1,13 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+
+public interface DeveloperStatisticsRow {
+    StatusCode getStatusCode();
+    DeveloperLevel getDeveloperLevel();
+    DeveloperSkillType getDeveloperSkillType();
+    Long getDeveloperCount();
+    Long getExperienceYearsSum();
+}
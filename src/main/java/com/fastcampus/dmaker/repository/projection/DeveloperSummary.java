@@ -0,0 +1,11 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+
+public interface DeveloperSummary {
+    Long getId();
+    DeveloperLevel getDeveloperLevel();
+    DeveloperSkillType getDeveloperSkillType();
+    String getMemberId();
+}
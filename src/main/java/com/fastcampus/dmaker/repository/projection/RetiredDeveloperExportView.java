@@ -0,0 +1,22 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+
+import java.time.LocalDateTime;
+
+public interface RetiredDeveloperExportView {
+    Long getId();
+    Long getDeveloperId();
+    String getMemberId();
+    String getName();
+    Integer getAge();
+    DeveloperLevel getDeveloperLevel();
+    DeveloperSkillType getDeveloperSkillType();
+    Integer getExperienceYears();
+    LocalDateTime getHiredAt();
+    LocalDateTime getRetiredAt();
+    LocalDateTime getRehiredAt();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.fastcampus.dmaker.repository.projection;
+
+import com.fastcampus.dmaker.code.StatusCode;
+
+/**
+ * 보관 테이블에는 상태 컬럼이 없으므로 RETIRED 로 고정한다.
+ */
+public interface RetiredDeveloperIndexRow extends DeveloperIndexRow {
+    @Override
+    default StatusCode getStatusCode() {
+        return StatusCode.RETIRED;
+    }
+}
@@ -1,38 +1,180 @@
 package com.fastcampus.dmaker.service;
 
 import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.BatchGetDevelopers;
+import com.fastcampus.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.dmaker.dto.CacheStatsDto;
 import com.fastcampus.dmaker.dto.CreateDeveloper;
 import com.fastcampus.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.dmaker.dto.DeveloperDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
 import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.dto.RetireDevelopers;
+import com.fastcampus.dmaker.dto.RetiredDeveloperDto;
+import com.fastcampus.dmaker.dto.RetiredDeveloperPageDto;
+import com.fastcampus.dmaker.dto.SearchDeveloper;
 import com.fastcampus.dmaker.entity.Developer;
 import com.fastcampus.dmaker.entity.RetiredDeveloper;
 import com.fastcampus.dmaker.exception.DMakerException;
-import com.fastcampus.dmaker.repository.DeveloperRepository;
-import com.fastcampus.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import com.fastcampus.dmaker.type.DeveloperEventType;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.annotation.Timed;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
-import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static com.fastcampus.dmaker.config.CacheConfig.DEVELOPER_DETAIL_CACHE;
+import static com.fastcampus.dmaker.constant.DMakerConstant.BULK_BATCH_SIZE;
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.*;
 
 @RequiredArgsConstructor
 @Service
+@Timed(value = "dmaker.service", histogram = true, percentiles = {0.5, 0.99, 0.999})
 public class DMakerService {
 
-    private final DeveloperRepository developerRepository;
-    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final DeveloperStore developerStore;
+    private final RetiredDeveloperStore retiredDeveloperStore;
+    private final CacheManager cacheManager;
+    private final DeveloperStatistics developerStatistics;
+    private final DeveloperIndex developerIndex;
+    private final DeveloperEventService developerEventService;
+    private final TransactionOperations transactionOperations;
+    private final SingleFlight<String, DeveloperDetailDto> developerDetailLoads = new SingleFlight<>();
 
+    @CacheEvict(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#request.memberId")
     @Transactional
     public CreateDeveloper.Response createDeveloper(CreateDeveloper.Request request) {
         validateCreateDeveloperRequest(request);
-        return CreateDeveloper.Response.fromEntity(
-                developerRepository.save(createDeveloperFromRequest(request))
-        );
+        if (retiredDeveloperStore.isRetired(request.getMemberId())) {
+            throw DMakerException.of(DUPLICATED_MEMBER_ID);
+        }
+        Developer developer = developerStore.create(createDeveloperFromRequest(request));
+        recordEvent(DeveloperEventType.CREATED, developer);
+        developerStatistics.created(
+                request.getDeveloperLevel(), request.getDeveloperSkillType(), request.getExperienceYears());
+        indexDeveloper(developer);
+        return CreateDeveloper.Response.fromEntity(developer);
+    }
+
+    /**
+     * 중복 검사는 memberId IN 쿼리로 한 번에 하고, 저장은 BULK_BATCH_SIZE 단위로 묶어 묶음마다 한 트랜잭션으로 저장소에 넘긴다. (JPA 는 JDBC batch)
+     * 퇴직 보관 중인 memberId 도 중복으로 본다. 요청 하나가 실패해도 나머지는 저장되며 결과는 요청 순서대로 돌려준다.
+     */
+    public BulkCreateDeveloper.Response createDevelopers(List<CreateDeveloper.Request> requests) {
+        Set<String> existingMemberIds = findExistingMemberIds(requests);
+        Set<String> acceptedMemberIds = new HashSet<>();
+        BulkCreateDeveloper.Result[] results = new BulkCreateDeveloper.Result[requests.size()];
+        List<Integer> batch = new ArrayList<>(BULK_BATCH_SIZE);
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateDeveloper.Request request = requests.get(i);
+            String memberId = request.getMemberId();
+            try {
+                request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
+            } catch (DMakerException e) {
+                results[i] = BulkCreateDeveloper.Result.failed(memberId, e.getDMakerErrorCode());
+                continue;
+            }
+            if (existingMemberIds.contains(memberId) || !acceptedMemberIds.add(memberId)) {
+                results[i] = BulkCreateDeveloper.Result.failed(memberId, DUPLICATED_MEMBER_ID);
+                continue;
+            }
+
+            batch.add(i);
+            if (batch.size() == BULK_BATCH_SIZE) saveBatch(requests, batch, results);
+        }
+        saveBatch(requests, batch, results);
+
+        int createdCount = (int) Arrays.stream(results).filter(BulkCreateDeveloper.Result::isCreated).count();
+        return BulkCreateDeveloper.Response.builder()
+                .createdCount(createdCount)
+                .failedCount(requests.size() - createdCount)
+                .results(List.of(results))
+                .build();
+    }
+
+    private Set<String> findExistingMemberIds(List<CreateDeveloper.Request> requests) {
+        List<String> memberIds = requests.stream()
+                .map(CreateDeveloper.Request::getMemberId)
+                .distinct()
+                .toList();
+
+        Set<String> existingMemberIds = new HashSet<>();
+        for (int from = 0; from < memberIds.size(); from += BULK_BATCH_SIZE) {
+            List<String> chunk = memberIds.subList(from, Math.min(from + BULK_BATCH_SIZE, memberIds.size()));
+            existingMemberIds.addAll(developerStore.findMemberIdsByMemberIdIn(chunk));
+            existingMemberIds.addAll(retiredDeveloperStore.findRetiredMemberIdsByMemberIdIn(chunk));
+        }
+        return existingMemberIds;
+    }
+
+    /**
+     * 이벤트, 통계, 색인은 createAll 이 성공한 뒤 같은 트랜잭션에서 남긴다.
+     * 중복 검사 뒤 다른 요청이 같은 memberId 를 먼저 넣었으면 묶음 트랜잭션이 롤백되므로,
+     * 다시 검사해 겹친 memberId 만 DUPLICATED_MEMBER_ID 로 빼고 나머지를 새 트랜잭션으로 저장한다.
+     */
+    private void saveBatch(List<CreateDeveloper.Request> requests, List<Integer> batch,
+                           BulkCreateDeveloper.Result[] results) {
+        List<Integer> remaining = new ArrayList<>(batch);
+        batch.clear();
+        while (!remaining.isEmpty()) {
+            try {
+                transactionOperations.executeWithoutResult(status -> createAll(requests, remaining));
+                break;
+            } catch (DMakerException e) {
+                if (e.getDMakerErrorCode() != DUPLICATED_MEMBER_ID) throw e;
+                Set<String> conflicted = findExistingMemberIds(remaining.stream().map(requests::get).toList());
+                boolean removed = remaining.removeIf(i -> {
+                    String memberId = requests.get(i).getMemberId();
+                    if (!conflicted.contains(memberId)) return false;
+                    results[i] = BulkCreateDeveloper.Result.failed(memberId, DUPLICATED_MEMBER_ID);
+                    return true;
+                });
+                if (!removed) throw e;
+            }
+        }
+        for (int i : remaining) results[i] = BulkCreateDeveloper.Result.created(requests.get(i).getMemberId());
+    }
+
+    private void createAll(List<CreateDeveloper.Request> requests, List<Integer> indexes) {
+        List<Developer> developers = indexes.stream()
+                .map(i -> createDeveloperFromRequest(requests.get(i)))
+                .toList();
+        developerStore.createAll(developers);
+        for (Developer developer : developers) {
+            recordEvent(DeveloperEventType.CREATED, developer);
+            developerStatistics.created(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                    developer.getExperienceYears());
+            indexDeveloper(developer);
+        }
     }
 
     private Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
@@ -49,31 +191,174 @@ public class DMakerService {
 
     private void validateCreateDeveloperRequest(@NonNull CreateDeveloper.Request request) {
         request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
+    }
 
-        developerRepository.findByMemberId(request.getMemberId())
-                .ifPresent(developer -> {
-                    throw new DMakerException(DUPLICATED_MEMBER_ID);
-                });
+    @Transactional(readOnly = true)
+    public DeveloperPageDto getEmployedDevelopers(Long cursor, int size) {
+        if (size < 1) throw new DMakerException(INVALID_REQUEST, "size must be positive");
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        List<DeveloperSummary> developers = developerStore.findByStatusCodeAfter(
+                StatusCode.EMPLOYED, cursor == null ? 0L : cursor, pageSize + 1);
+
+        boolean hasNext = developers.size() > pageSize;
+        List<DeveloperSummary> page = hasNext ? developers.subList(0, pageSize) : developers;
+
+        return DeveloperPageDto.builder()
+                .developers(page.stream().map(DeveloperDto::fromView).toList())
+                .nextCursor(hasNext ? page.get(pageSize - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * 재직 개발자 목록의 변경 여부를 건수와 max(updatedAt) 만으로 판단한다. (status_code, updated_at) 인덱스만 읽는다.
+     */
     @Transactional(readOnly = true)
-    public List<DeveloperDto> getAllEmployedDevelopers() {
-        return developerRepository.findByStatusCodeEquals(StatusCode.EMPLOYED)
-                .stream().map(DeveloperDto::fromEntity)
-                .toList();
+    public DeveloperCollectionVersion getEmployedDevelopersVersion() {
+        return developerStore.findCollectionVersion(StatusCode.EMPLOYED);
+    }
+
+    /**
+     * 재직 중인 개발자를 DB 커서에서 한 건씩 꺼내 consumer 에 넘긴다.
+     * 엔티티가 아닌 projection 을 읽으므로 영속성 컨텍스트에 쌓이지 않고, 전체 건수와 관계없이 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void streamEmployedDevelopers(Consumer<DeveloperDto> consumer) {
+        try (Stream<DeveloperSummary> developers =
+                     developerStore.streamByStatusCode(StatusCode.EMPLOYED)) {
+            developers.map(DeveloperDto::fromView).forEach(consumer);
+        }
     }
 
+    /**
+     * 퇴직자는 Developer 테이블에 남지 않으므로 statusCode=RETIRED 는 INVALID_REQUEST 로 거절하고 /retired-developers 로 안내한다.
+     */
     @Transactional(readOnly = true)
+    public SearchDeveloper.Response searchDevelopers(SearchDeveloper.Request request) {
+        if (request.getStatusCode() == StatusCode.RETIRED) {
+            throw new DMakerException(INVALID_REQUEST, "retired developers are listed by /retired-developers");
+        }
+        Page<Developer> page = developerStore.search(request);
+
+        return SearchDeveloper.Response.builder()
+                .developers(page.map(DeveloperDetailDto::fromEntity).getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 같은 memberId 로 동시에 들어온 조회를 캐시 앞의 SingleFlight 로 합친다. 캐시에 남지 않는 NO_DEVELOPER 도 한 번만 읽는다.
+     * 적재는 캐시의 sync get 이라 로드 중에 커밋된 수정의 @CachePut 은 로드가 끝날 때까지 기다렸다가 덮어쓴다. 수정 전 값이 나중에 들어가지 않는다.
+     * 조회 하나뿐이라 트랜잭션은 열지 않는다.
+     */
     public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return DeveloperDetailDto.fromEntity(getDeveloperByMemberId(memberId));
+        org.springframework.cache.Cache cache = cacheManager.getCache(DEVELOPER_DETAIL_CACHE);
+        DeveloperDetailDto cached = cache.get(memberId, DeveloperDetailDto.class);
+        if (cached != null) return cached;
+        return developerDetailLoads.execute(memberId, () -> loadDeveloperDetail(cache, memberId));
+    }
+
+    private DeveloperDetailDto loadDeveloperDetail(org.springframework.cache.Cache cache, String memberId) {
+        try {
+            return cache.get(memberId, () -> developerStore.findDetailByMemberId(memberId)
+                    .map(DeveloperDetailDto::fromView)
+                    .orElseThrow(() -> DMakerException.of(NO_DEVELOPER)));
+        } catch (org.springframework.cache.Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시에 있는 memberId 는 캐시에서, 나머지는 BULK_BATCH_SIZE 단위 IN 쿼리로 읽는다.
+     * 읽은 값은 캐시에 넣지 않는다. 커밋 뒤에 반영되는 put 이 그 사이 커밋된 수정의 @CachePut 을 덮어쓸 수 있어서다.
+     * 결과는 요청 순서(중복 포함)대로 돌려주며, 없는 memberId 는 전체를 실패시키지 않고 NO_DEVELOPER 로 표시한다.
+     */
+    @Transactional(readOnly = true)
+    public BatchGetDevelopers.Response getDeveloperDetails(List<String> memberIds) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(DEVELOPER_DETAIL_CACHE);
+        Map<String, DeveloperDetailDto> developers = new HashMap<>();
+        List<String> missedMemberIds = new ArrayList<>();
+        for (String memberId : new LinkedHashSet<>(memberIds)) {
+            DeveloperDetailDto cached = cache.get(memberId, DeveloperDetailDto.class);
+            if (cached != null) developers.put(memberId, cached);
+            else missedMemberIds.add(memberId);
+        }
+
+        for (int from = 0; from < missedMemberIds.size(); from += BULK_BATCH_SIZE) {
+            List<String> chunk = missedMemberIds.subList(
+                    from, Math.min(from + BULK_BATCH_SIZE, missedMemberIds.size()));
+            for (DeveloperDetailView view : developerStore.findDetailsByMemberIdIn(chunk)) {
+                DeveloperDetailDto developer = DeveloperDetailDto.fromView(view);
+                developers.put(developer.getMemberId(), developer);
+            }
+        }
+
+        List<BatchGetDevelopers.Result> results = new ArrayList<>(memberIds.size());
+        int foundCount = 0;
+        for (String memberId : memberIds) {
+            DeveloperDetailDto developer = developers.get(memberId);
+            if (developer == null) {
+                results.add(BatchGetDevelopers.Result.notFound(memberId));
+            } else {
+                results.add(BatchGetDevelopers.Result.found(developer));
+                foundCount++;
+            }
+        }
+
+        return BatchGetDevelopers.Response.builder()
+                .foundCount(foundCount)
+                .notFoundCount(memberIds.size() - foundCount)
+                .results(results)
+                .build();
     }
 
+    /**
+     * expectedVersions 가 null 이면 버전을 검사하지 않고, 아니면 현재 버전이 그 안에 있어야 한다. (비어 있으면 항상 DEVELOPER_VERSION_CONFLICT)
+     */
+    @CachePut(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#memberId")
     @Transactional
-    public DeveloperDetailDto editDeveloper(String memberId, EditDeveloper.Request request) {
+    public DeveloperDetailDto editDeveloper(String memberId, EditDeveloper.Request request,
+                                            Set<Long> expectedVersions) {
         request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
-        return DeveloperDetailDto.fromEntity(
-                getUpdatedDeveloperFromRequest(request, getDeveloperByMemberId(memberId))
-        );
+        Developer developer = getDeveloperByMemberId(memberId);
+        if (expectedVersions != null && !expectedVersions.contains(developer.getVersion())) {
+            throw DMakerException.of(DEVELOPER_VERSION_CONFLICT);
+        }
+
+        DeveloperLevel fromLevel = developer.getDeveloperLevel();
+        DeveloperSkillType fromSkillType = developer.getDeveloperSkillType();
+        Integer fromExperienceYears = developer.getExperienceYears();
+        developerStore.update(getUpdatedDeveloperFromRequest(request, developer));
+        if (fromLevel != developer.getDeveloperLevel()) {
+            recordEvent(DeveloperEventType.LEVEL_CHANGED, developer);
+        }
+        if (fromSkillType != developer.getDeveloperSkillType()) {
+            recordEvent(DeveloperEventType.SKILL_TYPE_CHANGED, developer);
+        }
+        if (!Objects.equals(fromExperienceYears, developer.getExperienceYears())) {
+            recordEvent(DeveloperEventType.EXPERIENCE_YEARS_CHANGED, developer);
+        }
+        if (developer.getStatusCode() == StatusCode.EMPLOYED) {
+            developerStatistics.edited(fromLevel, fromSkillType, fromExperienceYears,
+                    developer.getDeveloperLevel(), developer.getDeveloperSkillType(), developer.getExperienceYears());
+        }
+        indexDeveloper(developer);
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+
+    private void indexDeveloper(Developer developer) {
+        developerIndex.indexed(developer.getMemberId(), developer.getDeveloperLevel(),
+                developer.getDeveloperSkillType(), developer.getStatusCode());
+    }
+
+    private void recordEvent(DeveloperEventType eventType, Developer developer) {
+        developerEventService.record(eventType, developer.getMemberId(), developer.getDeveloperLevel(),
+                developer.getDeveloperSkillType(), developer.getExperienceYears(), developer.getStatusCode());
     }
 
     private Developer getUpdatedDeveloperFromRequest(EditDeveloper.Request request, Developer developer) {
@@ -85,21 +370,149 @@ public class DMakerService {
     }
 
     private Developer getDeveloperByMemberId(String memberId) {
-        return developerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new DMakerException(NO_DEVELOPER));
+        return developerStore.findByMemberId(memberId)
+                .orElseThrow(() -> DMakerException.of(NO_DEVELOPER));
     }
 
+    /**
+     * 퇴직 시점의 전체 정보를 RetiredDeveloper 로 옮기고 Developer 행은 지운다. Developer 테이블에는 재직자만 남는다.
+     * 롤백이 없는 메모리 저장소에서도 버전 충돌로 보관 행만 남지 않도록 지우기를 먼저 한다.
+     * 옮기기 전부터 남아 있던 RETIRED 행은 이미 보관 중이면 행만 지우고 현재 보관 행을 하나로 유지한다.
+     */
+    @CacheEvict(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#memberId")
     @Transactional
     public DeveloperDetailDto deleteDeveloper(String memberId) {
-        Developer developer = developerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new DMakerException(NO_DEVELOPER));
+        Developer developer = getDeveloperByMemberId(memberId);
+        boolean wasEmployed = developer.getStatusCode() == StatusCode.EMPLOYED;
+        developerStore.delete(developer);
         developer.setStatusCode(StatusCode.RETIRED);
 
-        RetiredDeveloper retiredDeveloper = RetiredDeveloper.builder()
-                .memberId(memberId)
+        if (!retiredDeveloperStore.isRetired(memberId)) {
+            retiredDeveloperStore.archive(retiredSnapshotOf(developer, LocalDateTime.now()));
+        }
+        if (wasEmployed) {
+            recordEvent(DeveloperEventType.RETIRED, developer);
+            developerStatistics.retired(
+                    developer.getDeveloperLevel(), developer.getDeveloperSkillType(), developer.getExperienceYears());
+            indexDeveloper(developer);
+        }
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+
+    /**
+     * 재직 중인 memberIds 의 Developer 행을 먼저 지우고, 이 호출이 실제로 지운 행만 RetiredDeveloper 로 batch insert 한다.
+     * 동시에 들어온 단건 삭제나 같은 묶음의 재요청과 겹쳐도 보관 행, 이벤트, 통계는 한 번씩만 남는다.
+     * 이미 퇴직했거나 없는 memberId 는 건너뛰고 건수만 돌려주므로 같은 요청을 다시 보내도 안전하다.
+     */
+    @Transactional
+    public RetireDevelopers.ChunkResult retireDevelopers(Collection<String> memberIds) {
+        List<Developer> retired = developerStore.deleteEmployed(memberIds);
+
+        if (!retired.isEmpty()) {
+            LocalDateTime retiredAt = LocalDateTime.now();
+            retiredDeveloperStore.archiveAll(retired.stream()
+                    .map(developer -> retiredSnapshotOf(developer, retiredAt))
+                    .toList());
+            org.springframework.cache.Cache cache = cacheManager.getCache(DEVELOPER_DETAIL_CACHE);
+            retired.forEach(developer -> {
+                cache.evict(developer.getMemberId());
+                developer.setStatusCode(StatusCode.RETIRED);
+                recordEvent(DeveloperEventType.RETIRED, developer);
+                developerStatistics.retired(
+                        developer.getDeveloperLevel(), developer.getDeveloperSkillType(), developer.getExperienceYears());
+                indexDeveloper(developer);
+            });
+        }
+
+        Set<String> retiredMemberIds = new HashSet<>();
+        retired.forEach(developer -> retiredMemberIds.add(developer.getMemberId()));
+        List<String> remainingMemberIds = memberIds.stream()
+                .distinct()
+                .filter(memberId -> !retiredMemberIds.contains(memberId))
+                .toList();
+        Set<String> alreadyRetiredMemberIds = new HashSet<>();
+        if (!remainingMemberIds.isEmpty()) {
+            developerStore.findDetailsByMemberIdIn(remainingMemberIds).stream()
+                    .filter(developer -> developer.getStatusCode() != StatusCode.EMPLOYED)
+                    .forEach(developer -> alreadyRetiredMemberIds.add(developer.getMemberId()));
+            alreadyRetiredMemberIds.addAll(retiredDeveloperStore.findRetiredMemberIdsByMemberIdIn(remainingMemberIds));
+        }
+
+        return new RetireDevelopers.ChunkResult(
+                retired.size(),
+                alreadyRetiredMemberIds.size(),
+                remainingMemberIds.size() - alreadyRetiredMemberIds.size());
+    }
+
+    private RetiredDeveloper retiredSnapshotOf(Developer developer, LocalDateTime retiredAt) {
+        return RetiredDeveloper.builder()
+                .developerId(developer.getId())
+                .memberId(developer.getMemberId())
                 .name(developer.getName())
+                .age(developer.getAge())
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .hiredAt(developer.getCreatedAt())
+                .retiredAt(retiredAt)
+                .build();
+    }
+
+    /**
+     * memberId 를 주면 그 개발자의 퇴직 이력 전체를, 없으면 현재 퇴직 상태인 보관 행을 최근 퇴직 순으로 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public RetiredDeveloperPageDto getRetiredDevelopers(String memberId, Long cursor, int size) {
+        if (size < 1) throw new DMakerException(INVALID_REQUEST, "size must be positive");
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+
+        List<RetiredDeveloper> retiredDevelopers = memberId == null
+                ? retiredDeveloperStore.findRetired(before, pageSize + 1)
+                : retiredDeveloperStore.findHistory(memberId, before, pageSize + 1);
+
+        boolean hasNext = retiredDevelopers.size() > pageSize;
+        List<RetiredDeveloper> page = hasNext ? retiredDevelopers.subList(0, pageSize) : retiredDevelopers;
+
+        return RetiredDeveloperPageDto.builder()
+                .retiredDevelopers(page.stream().map(RetiredDeveloperDto::fromEntity).toList())
+                .nextCursor(hasNext ? page.get(pageSize - 1).getId() : null)
+                .hasNext(hasNext)
                 .build();
-        retiredDeveloperRepository.save(retiredDeveloper);
+    }
+
+    /**
+     * 보관된 스냅샷으로 Developer 를 새로 만들고 보관 행에는 rehiredAt 을 남긴다. 레벨/연차 변경은 재입사 후 수정으로 한다.
+     * memberId 가 겹쳐 실패하면 보관 행은 그대로 두도록 Developer 를 먼저 만든다.
+     */
+    @CacheEvict(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#memberId")
+    @Transactional
+    public DeveloperDetailDto rehireDeveloper(String memberId) {
+        RetiredDeveloper retiredDeveloper = retiredDeveloperStore.findRetiredByMemberId(memberId)
+                .orElseThrow(() -> DMakerException.of(NO_RETIRED_DEVELOPER));
+        if (developerStore.existsByMemberId(memberId)) throw DMakerException.of(DUPLICATED_MEMBER_ID);
+
+        Developer developer = developerStore.create(Developer.builder()
+                .developerLevel(retiredDeveloper.getDeveloperLevel())
+                .developerSkillType(retiredDeveloper.getDeveloperSkillType())
+                .experienceYears(retiredDeveloper.getExperienceYears())
+                .memberId(memberId)
+                .statusCode(StatusCode.EMPLOYED)
+                .name(retiredDeveloper.getName())
+                .age(retiredDeveloper.getAge())
+                .build());
+        retiredDeveloper.setRehiredAt(LocalDateTime.now());
+        retiredDeveloperStore.update(retiredDeveloper);
+        recordEvent(DeveloperEventType.REHIRED, developer);
+        developerStatistics.rehired(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                developer.getExperienceYears());
+        indexDeveloper(developer);
         return DeveloperDetailDto.fromEntity(developer);
     }
+
+    public CacheStatsDto getDeveloperDetailCacheStats() {
+        Cache<?, ?> cache = (Cache<?, ?>) cacheManager
+                .getCache(DEVELOPER_DETAIL_CACHE).getNativeCache();
+        return CacheStatsDto.from(cache.estimatedSize(), cache.stats());
+    }
 }
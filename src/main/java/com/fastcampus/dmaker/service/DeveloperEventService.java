@@ -0,0 +1,58 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.dmaker.dto.DeveloperEventPageDto;
+import com.fastcampus.dmaker.entity.DeveloperEvent;
+import com.fastcampus.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.dmaker.type.DeveloperEventType;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+/**
+ * 개발자 변경 이벤트를 outbox 테이블에 기록하고 offset 이후의 이벤트를 조회한다.
+ * record 는 변경과 같은 트랜잭션 안에서만 호출되어야 한다. 조회는 relay 가 publishSequence 를 매긴 이벤트만 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeveloperEventService {
+
+    private final DeveloperEventRepository developerEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DeveloperEventType eventType, String memberId, DeveloperLevel developerLevel,
+                       DeveloperSkillType developerSkillType, Integer experienceYears, StatusCode statusCode) {
+        developerEventRepository.save(DeveloperEvent.builder()
+                .eventType(eventType)
+                .memberId(memberId)
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .experienceYears(experienceYears)
+                .statusCode(statusCode)
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public DeveloperEventPageDto getEventsAfter(long after, int limit) {
+        List<DeveloperEventDto> events = developerEventRepository
+                .findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(
+                        after, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))))
+                .stream()
+                .map(DeveloperEventDto::fromEntity)
+                .toList();
+
+        return DeveloperEventPageDto.builder()
+                .events(events)
+                .nextOffset(events.isEmpty() ? after : events.get(events.size() - 1).getOffset())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.type.ExportTarget;
+import com.fastcampus.dmaker.type.FileFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 야간 배치용 전체 export. 대상별로 gzip NDJSON 파일을 만들고, 다 쓴 뒤에 이름을 바꿔 반쯤 쓰인 파일이 보이지 않게 한다.
+ * dmaker.export.cron 이 "-" 이면 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class DeveloperExportJob {
+
+    private final ExportService exportService;
+    private final Path directory;
+
+    public DeveloperExportJob(ExportService exportService, @Value("${dmaker.export.directory}") Path directory) {
+        this.exportService = exportService;
+        this.directory = directory;
+    }
+
+    @Scheduled(cron = "${dmaker.export.cron}")
+    public void exportAll() throws IOException {
+        Files.createDirectories(directory);
+        for (ExportTarget target : ExportTarget.values()) {
+            Path file = directory.resolve(String.format("%s-%s.%s.gz",
+                    target.getFileName(), LocalDate.now(), FileFormat.NDJSON.getExtension()));
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+            long started = System.nanoTime();
+            long rows;
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+                rows = exportService.export(target, FileFormat.NDJSON, 0L, out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("exported {} {} rows to {} in {} ms",
+                    rows, target, file, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+}
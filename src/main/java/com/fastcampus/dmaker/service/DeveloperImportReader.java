@@ -0,0 +1,165 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import com.fastcampus.dmaker.type.FileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져올 파일을 한 줄씩 읽어 CreateDeveloper.Request 로 바꾼다. 파일 전체를 메모리에 올리지 않는다.
+ * CSV 는 첫 줄을 헤더로 보고 컬럼 이름으로 값을 찾으므로 export 파일을 그대로 넣을 수 있다. (따옴표 안의 줄바꿈은 지원하지 않는다)
+ */
+class DeveloperImportReader {
+
+    private final BufferedReader reader;
+    private final FileFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+
+    DeveloperImportReader(InputStream inputStream, FileFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이미 처리한 줄까지 파싱하지 않고 넘긴다. CSV 헤더가 그 안에 있으면 헤더만 읽어 둔다.
+     */
+    void skipTo(long lastLine) throws IOException {
+        String line;
+        while (lineNumber < lastLine && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (format == FileFormat.CSV && columns == null && !line.isBlank()) columns = readHeader(line);
+        }
+    }
+
+    /**
+     * 빈 줄은 건너뛰고 최대 size 개의 행을 읽는다. 파일 끝이면 빈 목록을 돌려준다.
+     */
+    List<Row> next(int size) throws IOException {
+        List<Row> rows = new ArrayList<>(size);
+        String line;
+        while (rows.size() < size && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            if (format == FileFormat.CSV && columns == null) {
+                columns = readHeader(line);
+                continue;
+            }
+            rows.add(parse(line));
+        }
+        return rows;
+    }
+
+    private Row parse(String line) {
+        try {
+            CreateDeveloper.Request request = format == FileFormat.CSV
+                    ? fromCsv(splitCsv(line))
+                    : objectMapper.readValue(line, CreateDeveloper.Request.class);
+            return new Row(lineNumber, request, null, null);
+        } catch (IOException | IllegalArgumentException e) {
+            return new Row(lineNumber, null, DMakerErrorCode.INVALID_REQUEST, e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> readHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) header.put(names.get(i).trim(), i);
+        return header;
+    }
+
+    private CreateDeveloper.Request fromCsv(List<String> values) {
+        String developerLevel = column(values, "developerLevel");
+        String developerSkillType = column(values, "developerSkillType");
+        String experienceYears = column(values, "experienceYears");
+        String age = column(values, "age");
+        return CreateDeveloper.Request.builder()
+                .memberId(column(values, "memberId"))
+                .name(column(values, "name"))
+                .age(age == null ? null : Integer.valueOf(age))
+                .developerLevel(developerLevel == null ? null : DeveloperLevel.valueOf(developerLevel))
+                .developerSkillType(developerSkillType == null ? null : DeveloperSkillType.valueOf(developerSkillType))
+                .experienceYears(experienceYears == null ? null : Integer.valueOf(experienceYears))
+                .build();
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size() || values.get(index).isEmpty()) return null;
+        return values.get(index);
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * errorCode 가 있으면 거절된 행이다. 파싱에 실패한 경우 request 는 null 이다.
+     */
+    @Getter
+    static class Row {
+
+        private final long lineNumber;
+        private final CreateDeveloper.Request request;
+        private final DMakerErrorCode errorCode;
+        private final String message;
+
+        Row(long lineNumber, CreateDeveloper.Request request, DMakerErrorCode errorCode, String message) {
+            this.lineNumber = lineNumber;
+            this.request = request;
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+
+        boolean isValid() {
+            return errorCode == null;
+        }
+
+        String getMemberId() {
+            return request == null ? null : request.getMemberId();
+        }
+
+        Row reject(DMakerErrorCode errorCode, String message) {
+            return new Row(lineNumber, request, errorCode, message);
+        }
+    }
+}
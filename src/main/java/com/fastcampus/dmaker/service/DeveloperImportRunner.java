@@ -0,0 +1,57 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.ImportDevelopers;
+import com.fastcampus.dmaker.type.FileFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 명령행에서 파일을 가져온다. 형식은 확장자(.csv, .ndjson, 뒤에 .gz 가능)로 정하고 importId 를 주지 않으면 파일 이름을 쓴다.
+ * <pre>
+ * java -jar dmaker.jar --spring.main.web-application-type=none --dmaker.import.file=/data/developers.csv.gz
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dmaker.import.file")
+public class DeveloperImportRunner implements ApplicationRunner {
+
+    private final ImportService importService;
+    private final Path file;
+    private final String importId;
+
+    public DeveloperImportRunner(
+            ImportService importService,
+            @Value("${dmaker.import.file}") Path file,
+            @Value("${dmaker.import.id:}") String importId
+    ) {
+        this.importService = importService;
+        this.file = file;
+        this.importId = importId;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String fileName = file.getFileName().toString();
+        boolean gzip = fileName.endsWith(".gz");
+        String baseName = gzip ? fileName.substring(0, fileName.length() - ".gz".length()) : fileName;
+        FileFormat format = baseName.endsWith("." + FileFormat.CSV.getExtension()) ? FileFormat.CSV : FileFormat.NDJSON;
+
+        try (InputStream raw = Files.newInputStream(file);
+             InputStream in = gzip ? new GZIPInputStream(raw, 64 * 1024) : raw) {
+            ImportDevelopers.Response response = importService.importDevelopers(
+                    importId.isBlank() ? baseName : importId, format, in);
+            log.info("imported {}: created {}, failed {}, error report {}",
+                    file, response.getCreatedCount(), response.getFailedCount(), response.getErrorReport());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.SearchDeveloperIndex;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.index.DeveloperBitmapIndex;
+import com.fastcampus.dmaker.repository.projection.DeveloperIndexRow;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperIndexRow;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_INDEX_NOT_READY;
+
+/**
+ * 레벨/스킬/상태 조건의 개발자 검색을 DeveloperBitmapIndex 로 메모리에서 처리한다.
+ * Developer 와 퇴직 보관 행(RETIRED)으로 만드는 첫 색인은 기동을 막지 않도록 스케줄러 스레드에서 바로 시작하고,
+ * 끝나기 전까지 검색은 DEVELOPER_INDEX_NOT_READY(503)로 거절한다. 이후 DMakerService 의 쓰기 메서드가 커밋 이후에 바뀐 값을 반영한다.
+ * 재색인 중에 들어온 변경은 따로 모아 두었다가 새 색인에 다시 적용한 뒤 교체한다.
+ */
+@Slf4j
+@Component
+public class DeveloperIndex {
+
+    private final DeveloperStore developerStore;
+    private final RetiredDeveloperStore retiredDeveloperStore;
+    private final boolean enabled;
+    private final Object monitor = new Object();
+
+    private volatile DeveloperBitmapIndex index;
+    private volatile LocalDateTime indexedAt;
+    private List<Consumer<DeveloperBitmapIndex>> pendingChanges;
+
+    public DeveloperIndex(DeveloperStore developerStore,
+                          RetiredDeveloperStore retiredDeveloperStore,
+                          MeterRegistry meterRegistry,
+                          @Value("${dmaker.index.enabled}") boolean enabled) {
+        this.developerStore = developerStore;
+        this.retiredDeveloperStore = retiredDeveloperStore;
+        this.enabled = enabled;
+        Gauge.builder("dmaker.index.memory", this, DeveloperIndex::estimatedMemoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("dmaker.index.developers", this, DeveloperIndex::size)
+                .register(meterRegistry);
+    }
+
+    public void indexed(String memberId, DeveloperLevel level, DeveloperSkillType skillType, StatusCode statusCode) {
+        if (!enabled) return;
+        afterCommit(() -> apply(target -> target.put(memberId, level, skillType, statusCode)));
+    }
+
+    public SearchDeveloperIndex.Response search(SearchDeveloperIndex.Request request) {
+        DeveloperBitmapIndex current = getReadyIndex();
+        int offset = request.getPage() * request.getSize();
+        DeveloperBitmapIndex.Result result = current.find(request.getDeveloperLevel(),
+                request.getDeveloperSkillType(), request.getStatusCode(), offset, request.getSize());
+
+        return SearchDeveloperIndex.Response.builder()
+                .memberIds(result.getMemberIds())
+                .page(request.getPage())
+                .size(request.getSize())
+                .totalElements(result.getTotalCount())
+                .hasNext((long) offset + result.getMemberIds().size() < result.getTotalCount())
+                .indexedAt(indexedAt)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.index.rebuild-interval}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) return;
+        synchronized (monitor) {
+            if (pendingChanges != null) return;
+            pendingChanges = new ArrayList<>();
+        }
+
+        try {
+            DeveloperBitmapIndex rebuilt = new DeveloperBitmapIndex();
+            try (Stream<DeveloperIndexRow> rows = developerStore.streamIndexRows()) {
+                rows.forEach(row -> put(rebuilt, row));
+            }
+            try (Stream<RetiredDeveloperIndexRow> rows = retiredDeveloperStore.streamIndexRows()) {
+                rows.forEach(row -> put(rebuilt, row));
+            }
+            synchronized (monitor) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+                indexedAt = LocalDateTime.now();
+            }
+            log.info("developer index rebuilt. developers: {}, memory: {} bytes",
+                    rebuilt.size(), rebuilt.estimatedMemoryBytes());
+        } finally {
+            synchronized (monitor) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    private static void put(DeveloperBitmapIndex target, DeveloperIndexRow row) {
+        target.put(row.getMemberId(), row.getDeveloperLevel(), row.getDeveloperSkillType(), row.getStatusCode());
+    }
+
+    private void apply(Consumer<DeveloperBitmapIndex> change) {
+        synchronized (monitor) {
+            if (pendingChanges != null) pendingChanges.add(change);
+            if (index != null) change.accept(index);
+        }
+    }
+
+    private DeveloperBitmapIndex getReadyIndex() {
+        DeveloperBitmapIndex current = index;
+        if (current == null) throw DMakerException.of(DEVELOPER_INDEX_NOT_READY);
+        return current;
+    }
+
+    private double estimatedMemoryBytes() {
+        DeveloperBitmapIndex current = index;
+        return current == null ? 0 : current.estimatedMemoryBytes();
+    }
+
+    private double size() {
+        DeveloperBitmapIndex current = index;
+        return current == null ? 0 : current.size();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
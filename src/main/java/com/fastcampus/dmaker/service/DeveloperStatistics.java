@@ -0,0 +1,143 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.DeveloperStatisticsDto;
+import com.fastcampus.dmaker.repository.projection.DeveloperStatisticsRow;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import com.fastcampus.dmaker.type.DeveloperSkillType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 재직/퇴직 인원, 레벨×스킬별 재직 인원, 재직자 연차 합계를 메모리 카운터로 유지한다. 퇴직 인원은 RetiredDeveloper 보관 행 기준이다.
+ * DMakerService 의 쓰기 메서드가 커밋 이후에 증감하고, 주기적으로 저장소 집계 결과로 덮어써서 오차를 바로잡는다.
+ * 연차가 비어 있는(null) 행은 집계 쿼리의 SUM 처럼 0 으로 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperStatistics {
+
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+
+    private final DeveloperStore developerStore;
+    private final RetiredDeveloperStore retiredDeveloperStore;
+
+    private final AtomicLongArray employedCounts = new AtomicLongArray(LEVELS.length * SKILL_TYPES.length);
+    private final AtomicLong employedExperienceYears = new AtomicLong();
+    private final AtomicLong employedCount = new AtomicLong();
+    private final AtomicLong retiredCount = new AtomicLong();
+    private volatile LocalDateTime reconciledAt;
+
+    public void created(DeveloperLevel level, DeveloperSkillType skillType, Integer experienceYears) {
+        afterCommit(() -> addEmployed(level, skillType, experienceYears, 1));
+    }
+
+    public void edited(DeveloperLevel fromLevel, DeveloperSkillType fromSkillType, Integer fromExperienceYears,
+                       DeveloperLevel toLevel, DeveloperSkillType toSkillType, Integer toExperienceYears) {
+        afterCommit(() -> {
+            addEmployed(fromLevel, fromSkillType, fromExperienceYears, -1);
+            addEmployed(toLevel, toSkillType, toExperienceYears, 1);
+        });
+    }
+
+    public void retired(DeveloperLevel level, DeveloperSkillType skillType, Integer experienceYears) {
+        afterCommit(() -> {
+            addEmployed(level, skillType, experienceYears, -1);
+            retiredCount.incrementAndGet();
+        });
+    }
+
+    public void rehired(DeveloperLevel level, DeveloperSkillType skillType, Integer experienceYears) {
+        afterCommit(() -> {
+            addEmployed(level, skillType, experienceYears, 1);
+            retiredCount.decrementAndGet();
+        });
+    }
+
+    public DeveloperStatisticsDto getStatistics() {
+        Map<DeveloperLevel, Map<DeveloperSkillType, Long>> byLevelAndSkill = new EnumMap<>(DeveloperLevel.class);
+        for (DeveloperLevel level : LEVELS) {
+            Map<DeveloperSkillType, Long> bySkill = new EnumMap<>(DeveloperSkillType.class);
+            for (DeveloperSkillType skillType : SKILL_TYPES) {
+                bySkill.put(skillType, employedCounts.get(indexOf(level, skillType)));
+            }
+            byLevelAndSkill.put(level, bySkill);
+        }
+
+        long employed = employedCount.get();
+        return DeveloperStatisticsDto.builder()
+                .employedCount(employed)
+                .retiredCount(retiredCount.get())
+                .averageExperienceYears(employed == 0 ? 0 : (double) employedExperienceYears.get() / employed)
+                .employedCountByLevelAndSkill(byLevelAndSkill)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${dmaker.statistics.reconcile-interval}",
+            initialDelayString = "${dmaker.statistics.reconcile-interval}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        long[] counts = new long[employedCounts.length()];
+        long experienceYears = 0;
+        long employed = 0;
+        long retired = retiredDeveloperStore.countRetired();
+
+        for (DeveloperStatisticsRow row : developerStore.countGroupByStatusCodeAndLevelAndSkillType()) {
+            if (row.getStatusCode() == StatusCode.EMPLOYED
+                    && row.getDeveloperLevel() != null && row.getDeveloperSkillType() != null) {
+                counts[indexOf(row.getDeveloperLevel(), row.getDeveloperSkillType())] += row.getDeveloperCount();
+                experienceYears += row.getExperienceYearsSum() == null ? 0 : row.getExperienceYearsSum();
+                employed += row.getDeveloperCount();
+            }
+        }
+
+        for (int i = 0; i < counts.length; i++) employedCounts.set(i, counts[i]);
+        employedExperienceYears.set(experienceYears);
+        employedCount.set(employed);
+        retiredCount.set(retired);
+        reconciledAt = LocalDateTime.now();
+        log.debug("developer statistics reconciled. employed: {}, retired: {}", employed, retired);
+    }
+
+    private void addEmployed(DeveloperLevel level, DeveloperSkillType skillType, Integer experienceYears, int delta) {
+        employedCounts.addAndGet(indexOf(level, skillType), delta);
+        if (experienceYears != null) employedExperienceYears.addAndGet((long) experienceYears * delta);
+        employedCount.addAndGet(delta);
+    }
+
+    private int indexOf(DeveloperLevel level, DeveloperSkillType skillType) {
+        return level.ordinal() * SKILL_TYPES.length + skillType.ordinal();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,175 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.repository.projection.DeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperExportView;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import com.fastcampus.dmaker.type.ExportTarget;
+import com.fastcampus.dmaker.type.FileFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Developer / RetiredDeveloper 를 id 순서로 저장소 스트림(JPA 는 DB 커서)에서 읽어 CSV 또는 NDJSON 으로 바로 써 내려간다.
+ * 행을 모으지 않으므로 건수와 관계없이 메모리 사용량이 일정하고, 끊긴 경우 마지막으로 받은 id 를 after 로 넘겨 이어받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String[] DEVELOPER_COLUMNS = {
+            "id", "memberId", "name", "age", "developerLevel", "developerSkillType",
+            "experienceYears", "statusCode", "createdAt", "updatedAt"
+    };
+    private static final String[] RETIRED_DEVELOPER_COLUMNS = {
+            "id", "developerId", "memberId", "name", "age", "developerLevel", "developerSkillType",
+            "experienceYears", "hiredAt", "retiredAt", "rehiredAt", "createdAt", "updatedAt"
+    };
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DeveloperStore developerStore;
+    private final RetiredDeveloperStore retiredDeveloperStore;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(ExportTarget target, FileFormat format, long after, OutputStream outputStream)
+            throws IOException {
+        try (RowWriter writer = format == FileFormat.CSV
+                ? new CsvRowWriter(outputStream)
+                : new NdjsonRowWriter(outputStream)) {
+            return switch (target) {
+                case DEVELOPER -> writeRows(writer, DEVELOPER_COLUMNS,
+                        developerStore.streamAfter(after)
+                                .map(ExportService::toValues));
+                case RETIRED_DEVELOPER -> writeRows(writer, RETIRED_DEVELOPER_COLUMNS,
+                        retiredDeveloperStore.streamAfter(after)
+                                .map(ExportService::toValues));
+            };
+        }
+    }
+
+    private long writeRows(RowWriter writer, String[] columns, Stream<Object[]> rows) throws IOException {
+        long count = 0;
+        try (rows) {
+            writer.header(columns);
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.row(columns, iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Object[] toValues(DeveloperExportView developer) {
+        return new Object[]{
+                developer.getId(), developer.getMemberId(), developer.getName(), developer.getAge(),
+                developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                developer.getExperienceYears(), developer.getStatusCode(),
+                developer.getCreatedAt(), developer.getUpdatedAt()
+        };
+    }
+
+    private static Object[] toValues(RetiredDeveloperExportView retiredDeveloper) {
+        return new Object[]{
+                retiredDeveloper.getId(), retiredDeveloper.getDeveloperId(), retiredDeveloper.getMemberId(),
+                retiredDeveloper.getName(), retiredDeveloper.getAge(),
+                retiredDeveloper.getDeveloperLevel(), retiredDeveloper.getDeveloperSkillType(),
+                retiredDeveloper.getExperienceYears(), retiredDeveloper.getHiredAt(),
+                retiredDeveloper.getRetiredAt(), retiredDeveloper.getRehiredAt(),
+                retiredDeveloper.getCreatedAt(), retiredDeveloper.getUpdatedAt()
+        };
+    }
+
+    /**
+     * close 는 버퍼만 비우고 원본 OutputStream 은 닫지 않는다. (응답 스트림/GZIP 스트림은 호출한 쪽이 정리한다)
+     */
+    private interface RowWriter extends Closeable {
+        void header(String[] columns) throws IOException;
+
+        void row(String[] columns, Object[] values) throws IOException;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream outputStream) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        @Override
+        public void header(String[] columns) throws IOException {
+            writeLine(columns);
+        }
+
+        @Override
+        public void row(String[] columns, Object[] values) throws IOException {
+            writeLine(values);
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writer.write(',');
+                if (values[i] != null) writeField(values[i].toString());
+            }
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream outputStream) throws IOException {
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(new BufferedOutputStream(outputStream, BUFFER_SIZE))
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void header(String[] columns) {
+        }
+
+        @Override
+        public void row(String[] columns, Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                generator.writeFieldName(columns[i]);
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.ImportDevelopers;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.type.FileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.IMPORT_CHUNK_SIZE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.IMPORT_ALREADY_RUNNING;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * 파일을 IMPORT_CHUNK_SIZE 줄씩 읽어 검증은 병렬로, 저장은 chunk 마다 createDevelopers 로 처리한다. (BULK_BATCH_SIZE 묶음마다 커밋)
+ * 다음 chunk 의 파싱/검증은 현재 chunk 를 저장하는 동안 미리 진행된다.
+ * <p>
+ * 거절된 행은 {importId}.errors.csv 에, 커밋이 끝난 마지막 줄 번호는 {importId}.checkpoint 에 남긴다.
+ * 같은 importId 로 다시 올리면 checkpoint 다음 줄부터 이어서 처리한다.
+ * chunk 의 일부 묶음이 커밋된 뒤 checkpoint 를 쓰기 전에 죽으면 그 chunk 는 다시 처리되고, 이미 저장된 행은 DUPLICATED_MEMBER_ID 로 보고된다.
+ */
+@Slf4j
+@Service
+public class ImportService {
+
+    private static final Pattern IMPORT_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,100}");
+    private static final String ERROR_REPORT_HEADER = "line,memberId,errorCode,message";
+
+    private final DMakerService dMakerService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final ForkJoinPool validationPool;
+    private final Set<String> runningImportIds = ConcurrentHashMap.newKeySet();
+
+    public ImportService(
+            DMakerService dMakerService,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${dmaker.import.directory}") Path directory,
+            @Value("${dmaker.import.parallelism}") int parallelism
+    ) {
+        this.dMakerService = dMakerService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.validationPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public ImportDevelopers.Response importDevelopers(String importId, FileFormat format, InputStream inputStream)
+            throws IOException {
+        if (importId == null || !IMPORT_ID_PATTERN.matcher(importId).matches()) {
+            throw new DMakerException(INVALID_REQUEST, "importId must match " + IMPORT_ID_PATTERN.pattern());
+        }
+        if (!runningImportIds.add(importId)) throw DMakerException.of(IMPORT_ALREADY_RUNNING);
+        try {
+            return run(importId, format, inputStream);
+        } finally {
+            runningImportIds.remove(importId);
+        }
+    }
+
+    private ImportDevelopers.Response run(String importId, FileFormat format, InputStream inputStream)
+            throws IOException {
+        Files.createDirectories(directory);
+        Path checkpointFile = directory.resolve(importId + ".checkpoint");
+        Path errorReport = directory.resolve(importId + ".errors.csv");
+        Checkpoint checkpoint = Checkpoint.read(checkpointFile);
+        long resumedFromLine = checkpoint.lastLine;
+
+        DeveloperImportReader reader = new DeveloperImportReader(inputStream, format, objectMapper);
+        reader.skipTo(checkpoint.lastLine);
+
+        try (BufferedWriter errors = Files.newBufferedWriter(errorReport, StandardCharsets.UTF_8, CREATE, APPEND)) {
+            if (Files.size(errorReport) == 0) {
+                errors.write(ERROR_REPORT_HEADER);
+                errors.newLine();
+            }
+            ForkJoinTask<List<DeveloperImportReader.Row>> pending = readAndValidate(reader);
+            List<DeveloperImportReader.Row> rows;
+            while (!(rows = pending.join()).isEmpty()) {
+                pending = readAndValidate(reader);
+                checkpoint = insert(rows, checkpoint, errors);
+                errors.flush();
+                checkpoint.write(checkpointFile);
+            }
+        }
+
+        log.info("import {} finished. lastLine: {}, created: {}, failed: {}",
+                importId, checkpoint.lastLine, checkpoint.createdCount, checkpoint.failedCount);
+        return ImportDevelopers.Response.builder()
+                .importId(importId)
+                .resumedFromLine(resumedFromLine)
+                .lastLine(checkpoint.lastLine)
+                .createdCount(checkpoint.createdCount)
+                .failedCount(checkpoint.failedCount)
+                .errorReport(errorReport.toString())
+                .build();
+    }
+
+    /**
+     * reader 는 한 번에 하나의 작업만 접근하므로 별도 동기화가 필요 없다.
+     */
+    private ForkJoinTask<List<DeveloperImportReader.Row>> readAndValidate(DeveloperImportReader reader) {
+        return validationPool.submit(() -> {
+            try {
+                return reader.next(IMPORT_CHUNK_SIZE).parallelStream()
+                        .map(this::validate)
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private DeveloperImportReader.Row validate(DeveloperImportReader.Row row) {
+        if (!row.isValid()) return row;
+        CreateDeveloper.Request request = row.getRequest();
+
+        Set<ConstraintViolation<CreateDeveloper.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return row.reject(INVALID_REQUEST, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        try {
+            request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
+        } catch (DMakerException e) {
+            return row.reject(e.getDMakerErrorCode(), e.getDetailMessage());
+        }
+        return row;
+    }
+
+    private Checkpoint insert(List<DeveloperImportReader.Row> rows, Checkpoint checkpoint, BufferedWriter errors)
+            throws IOException {
+        List<CreateDeveloper.Request> accepted = rows.stream()
+                .filter(DeveloperImportReader.Row::isValid)
+                .map(DeveloperImportReader.Row::getRequest)
+                .toList();
+        List<BulkCreateDeveloper.Result> results = accepted.isEmpty()
+                ? List.of()
+                : dMakerService.createDevelopers(accepted).getResults();
+
+        long created = 0;
+        long failed = 0;
+        int resultIndex = 0;
+        for (DeveloperImportReader.Row row : rows) {
+            if (row.isValid()) {
+                BulkCreateDeveloper.Result result = results.get(resultIndex++);
+                if (result.isCreated()) {
+                    created++;
+                    continue;
+                }
+                row = row.reject(result.getErrorCode(), result.getMessage());
+            }
+            failed++;
+            writeError(errors, row);
+        }
+        return new Checkpoint(rows.get(rows.size() - 1).getLineNumber(),
+                checkpoint.createdCount + created, checkpoint.failedCount + failed);
+    }
+
+    private void writeError(BufferedWriter errors, DeveloperImportReader.Row row) throws IOException {
+        errors.write(row.getLineNumber() + "," + csv(row.getMemberId()) + "," + row.getErrorCode()
+                + "," + csv(row.getMessage()));
+        errors.newLine();
+    }
+
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationPool.shutdown();
+    }
+
+    /**
+     * "마지막 줄,생성 건수,실패 건수" 한 줄. 임시 파일에 쓰고 이름을 바꿔 반쯤 쓰인 checkpoint 가 남지 않게 한다.
+     */
+    private static final class Checkpoint {
+
+        private final long lastLine;
+        private final long createdCount;
+        private final long failedCount;
+
+        private Checkpoint(long lastLine, long createdCount, long failedCount) {
+            this.lastLine = lastLine;
+            this.createdCount = createdCount;
+            this.failedCount = failedCount;
+        }
+
+        private static Checkpoint read(Path file) throws IOException {
+            if (!Files.exists(file)) return new Checkpoint(0, 0, 0);
+            String[] values = Files.readString(file).trim().split(",");
+            return new Checkpoint(Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]));
+        }
+
+        private void write(Path file) throws IOException {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, lastLine + "," + createdCount + "," + failedCount);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.code.RetirementStatus;
+import com.fastcampus.dmaker.dto.RetireDevelopers;
+import lombok.Getter;
+
+class RetirementBatch {
+
+    @Getter
+    private final String batchId;
+    private final int requestedCount;
+
+    private RetirementStatus status = RetirementStatus.QUEUED;
+    private int processedCount;
+    private int retiredCount;
+    private int alreadyRetiredCount;
+    private int notFoundCount;
+
+    RetirementBatch(String batchId, int requestedCount) {
+        this.batchId = batchId;
+        this.requestedCount = requestedCount;
+    }
+
+    synchronized void start() {
+        status = RetirementStatus.RUNNING;
+    }
+
+    synchronized void add(int chunkSize, RetireDevelopers.ChunkResult result) {
+        processedCount += chunkSize;
+        retiredCount += result.getRetiredCount();
+        alreadyRetiredCount += result.getAlreadyRetiredCount();
+        notFoundCount += result.getNotFoundCount();
+    }
+
+    synchronized void complete() {
+        status = RetirementStatus.COMPLETED;
+    }
+
+    synchronized void fail() {
+        status = RetirementStatus.FAILED;
+    }
+
+    synchronized boolean isFinished() {
+        return status == RetirementStatus.COMPLETED || status == RetirementStatus.FAILED;
+    }
+
+    synchronized RetireDevelopers.Response toResponse() {
+        return RetireDevelopers.Response.builder()
+                .batchId(batchId)
+                .status(status)
+                .requestedCount(requestedCount)
+                .processedCount(processedCount)
+                .retiredCount(retiredCount)
+                .alreadyRetiredCount(alreadyRetiredCount)
+                .notFoundCount(notFoundCount)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.RetireDevelopers;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.BULK_BATCH_SIZE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_RETIREMENT_BATCH;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.RETIREMENT_QUEUE_FULL;
+
+/**
+ * 대량 퇴직 요청을 대기열에 넣고 단일 워커가 BULK_BATCH_SIZE 단위 트랜잭션으로 처리한다.
+ * 대기열이 가득 차면 RETIREMENT_QUEUE_FULL 로 바로 거절한다.
+ * 배치 상태는 끝날 때까지 만료되지 않고, 끝난(COMPLETED/FAILED) 뒤 batchRetention 동안 조회할 수 있다.
+ */
+@Slf4j
+@Service
+public class RetirementService {
+
+    private final DMakerService dMakerService;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, RetirementBatch> batches;
+
+    public RetirementService(
+            DMakerService dMakerService,
+            @Value("${dmaker.retirement.queue-capacity}") int queueCapacity,
+            @Value("${dmaker.retirement.batch-retention}") Duration batchRetention
+    ) {
+        this.dMakerService = dMakerService;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("retirement-"));
+        this.batches = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, RetirementBatch>() {
+                    @Override
+                    public long expireAfterCreate(String batchId, RetirementBatch batch, long currentTime) {
+                        return batch.isFinished() ? batchRetention.toNanos() : Long.MAX_VALUE;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String batchId, RetirementBatch batch,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(batchId, batch, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String batchId, RetirementBatch batch,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public RetireDevelopers.Response submit(List<String> memberIds) {
+        List<String> distinctMemberIds = memberIds.stream().distinct().toList();
+        RetirementBatch batch = new RetirementBatch(UUID.randomUUID().toString(), distinctMemberIds.size());
+        batches.put(batch.getBatchId(), batch);
+
+        try {
+            executor.execute(() -> process(batch, distinctMemberIds));
+        } catch (RejectedExecutionException e) {
+            batches.invalidate(batch.getBatchId());
+            throw DMakerException.of(RETIREMENT_QUEUE_FULL);
+        }
+        return batch.toResponse();
+    }
+
+    public RetireDevelopers.Response getBatch(String batchId) {
+        return Optional.ofNullable(batches.getIfPresent(batchId))
+                .map(RetirementBatch::toResponse)
+                .orElseThrow(() -> DMakerException.of(NO_RETIREMENT_BATCH));
+    }
+
+    private void process(RetirementBatch batch, List<String> memberIds) {
+        batch.start();
+        try {
+            for (int from = 0; from < memberIds.size(); from += BULK_BATCH_SIZE) {
+                List<String> chunk = memberIds.subList(from, Math.min(from + BULK_BATCH_SIZE, memberIds.size()));
+                batch.add(chunk.size(), dMakerService.retireDevelopers(chunk));
+            }
+            batch.complete();
+        } catch (RuntimeException e) {
+            log.error("retirement batch failed. batchId: {}, message: {}", batch.getBatchId(), e.getMessage());
+            batch.fail();
+        }
+        batches.put(batch.getBatchId(), batch);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
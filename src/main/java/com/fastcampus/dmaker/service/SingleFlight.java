@@ -0,0 +1,54 @@
+package com.fastcampus.dmaker.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 로 동시에 들어온 호출을 하나로 합친다. 처음 온 호출만 loader 를 실행하고, 나머지는 그 결과(또는 예외)를 같이 받는다.
+ * key 별 상태는 putIfAbsent 로 등록한 CompletableFuture 하나뿐이고 loader 를 실행하는 동안 잡고 있는 락은 없다.
+ * 끝나면 바로 지우므로 이후 호출은 새로 읽는다. 결과를 보관하는 캐시가 아니다.
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) return await(existing);
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, created);
+        created.complete(value);
+        return value;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    int waiterCount(K key) {
+        CompletableFuture<V> future = inFlight.get(key);
+        return future == null ? 0 : future.getNumberOfDependents();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+}
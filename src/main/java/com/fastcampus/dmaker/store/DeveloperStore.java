@@ -0,0 +1,75 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.SearchDeveloper;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.repository.projection.DeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.DeveloperIndexRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperStatisticsRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Developer 저장소. dmaker.storage.type 에 따라 JpaDeveloperStore(jpa, 기본) 또는 InMemoryDeveloperStore(memory) 가 쓰인다.
+ * memberId 중복은 DUPLICATED_MEMBER_ID, 버전 충돌은 DEVELOPER_VERSION_CONFLICT 로 알린다.
+ */
+public interface DeveloperStore {
+
+    /**
+     * id, version, createdAt, updatedAt 은 저장소가 채워서 넘겨받은 developer 에 반영한다.
+     */
+    Developer create(Developer developer);
+
+    /**
+     * memberId 중복 검사는 호출하는 쪽에서 미리 한다.
+     * 그 사이 다른 요청이 같은 memberId 를 먼저 넣었으면 DUPLICATED_MEMBER_ID 를 던지고 이 묶음은 저장되지 않는다.
+     */
+    void createAll(List<Developer> developers);
+
+    /**
+     * findByMemberId 로 읽은 developer 를 고친 뒤 넘긴다. 읽은 뒤 다른 요청이 먼저 바꿨다면 DEVELOPER_VERSION_CONFLICT.
+     */
+    Developer update(Developer developer);
+
+    void delete(Developer developer);
+
+    /**
+     * memberIds 중 재직 중인 행만 지우고, 이 호출이 실제로 지운 행을 지우기 직전 상태로 돌려준다.
+     * 동시에 같은 행을 지우려는 다른 요청이 있으면 둘 중 하나에만 들어간다.
+     */
+    List<Developer> deleteEmployed(Collection<String> memberIds);
+
+    Optional<Developer> findByMemberId(String memberId);
+
+    boolean existsByMemberId(String memberId);
+
+    Optional<DeveloperDetailView> findDetailByMemberId(String memberId);
+
+    List<DeveloperDetailView> findDetailsByMemberIdIn(Collection<String> memberIds);
+
+    List<String> findMemberIdsByMemberIdIn(Collection<String> memberIds);
+
+    /**
+     * id 가 cursor 보다 큰 행을 id 순서로 limit 건까지 돌려준다.
+     */
+    List<DeveloperSummary> findByStatusCodeAfter(StatusCode statusCode, long cursor, int limit);
+
+    DeveloperCollectionVersion findCollectionVersion(StatusCode statusCode);
+
+    Stream<DeveloperSummary> streamByStatusCode(StatusCode statusCode);
+
+    Page<Developer> search(SearchDeveloper.Request request);
+
+    List<DeveloperStatisticsRow> countGroupByStatusCodeAndLevelAndSkillType();
+
+    Stream<DeveloperIndexRow> streamIndexRows();
+
+    Stream<DeveloperExportView> streamAfter(long id);
+}
@@ -0,0 +1,354 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.SearchDeveloper;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.repository.projection.DeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.DeveloperIndexRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperStatisticsRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+
+/**
+ * memberId → Developer 를 ConcurrentHashMap 에 두고, 전체와 상태별로 id 순서 색인(ConcurrentSkipListMap)을 따로 둔다.
+ * 쓰기는 memberId 의 compute 안에서 색인까지 함께 바꾸므로 같은 memberId 끼리만 줄을 서고, 읽기는 잠그지 않는다.
+ * 저장한 Developer 는 고치지 않고 새 인스턴스로 바꿔 끼우며, 밖으로는 복사본이나 projection 만 내보낸다.
+ * 트랜잭션에 참여하지 않으므로 쓰기는 호출 즉시 보이고 롤백되지 않는다.
+ */
+public class InMemoryDeveloperStore implements DeveloperStore {
+
+    private final ConcurrentMap<String, Developer> developers = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Developer> developersById = new ConcurrentSkipListMap<>();
+    private final Map<StatusCode, StatusPartition> partitions = new EnumMap<>(StatusCode.class);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public InMemoryDeveloperStore() {
+        for (StatusCode statusCode : StatusCode.values()) partitions.put(statusCode, new StatusPartition());
+    }
+
+    @Override
+    public Developer create(Developer developer) {
+        LocalDateTime now = LocalDateTime.now();
+        Developer stored = copyOf(developer);
+        stored.setId(sequence.incrementAndGet());
+        stored.setVersion(0L);
+        stored.setCreatedAt(now);
+        stored.setUpdatedAt(now);
+        developers.compute(developer.getMemberId(), (memberId, current) -> {
+            if (current != null) throw DMakerException.of(DUPLICATED_MEMBER_ID);
+            reindex(null, stored);
+            return stored;
+        });
+
+        developer.setId(stored.getId());
+        developer.setVersion(stored.getVersion());
+        developer.setCreatedAt(now);
+        developer.setUpdatedAt(now);
+        return developer;
+    }
+
+    /**
+     * 롤백이 없으므로 중간에 memberId 가 겹치면 이 호출이 넣은 행을 도로 빼고 DUPLICATED_MEMBER_ID 를 던진다.
+     */
+    @Override
+    public void createAll(List<Developer> batch) {
+        List<Developer> created = new ArrayList<>(batch.size());
+        try {
+            for (Developer developer : batch) created.add(create(developer));
+        } catch (DMakerException e) {
+            created.forEach(this::discard);
+            throw e;
+        }
+    }
+
+    private void discard(Developer developer) {
+        developers.computeIfPresent(developer.getMemberId(), (memberId, current) -> {
+            if (!Objects.equals(current.getId(), developer.getId())) return current;
+            reindex(current, null);
+            return null;
+        });
+    }
+
+    @Override
+    public Developer update(Developer developer) {
+        Developer updated = copyOf(developer);
+        developers.compute(developer.getMemberId(), (memberId, current) -> {
+            if (current == null || !Objects.equals(current.getVersion(), developer.getVersion())) {
+                throw DMakerException.of(DEVELOPER_VERSION_CONFLICT);
+            }
+            updated.setId(current.getId());
+            updated.setCreatedAt(current.getCreatedAt());
+            updated.setVersion(current.getVersion() + 1);
+            updated.setUpdatedAt(LocalDateTime.now());
+            reindex(current, updated);
+            return updated;
+        });
+
+        developer.setVersion(updated.getVersion());
+        developer.setUpdatedAt(updated.getUpdatedAt());
+        return developer;
+    }
+
+    @Override
+    public void delete(Developer developer) {
+        developers.compute(developer.getMemberId(), (memberId, current) -> {
+            if (current == null || !Objects.equals(current.getVersion(), developer.getVersion())) {
+                throw DMakerException.of(DEVELOPER_VERSION_CONFLICT);
+            }
+            reindex(current, null);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Developer> deleteEmployed(Collection<String> memberIds) {
+        List<Developer> deleted = new ArrayList<>();
+        for (String memberId : new LinkedHashSet<>(memberIds)) {
+            developers.computeIfPresent(memberId, (key, current) -> {
+                if (current.getStatusCode() != StatusCode.EMPLOYED) return current;
+                reindex(current, null);
+                deleted.add(copyOf(current));
+                return null;
+            });
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<Developer> findByMemberId(String memberId) {
+        return Optional.ofNullable(developers.get(memberId)).map(InMemoryDeveloperStore::copyOf);
+    }
+
+    @Override
+    public boolean existsByMemberId(String memberId) {
+        return developers.containsKey(memberId);
+    }
+
+    @Override
+    public Optional<DeveloperDetailView> findDetailByMemberId(String memberId) {
+        return Optional.ofNullable(developers.get(memberId)).map(developer -> project(DeveloperDetailView.class, developer));
+    }
+
+    @Override
+    public List<DeveloperDetailView> findDetailsByMemberIdIn(Collection<String> memberIds) {
+        return memberIds.stream()
+                .distinct()
+                .map(developers::get)
+                .filter(Objects::nonNull)
+                .map(developer -> project(DeveloperDetailView.class, developer))
+                .toList();
+    }
+
+    @Override
+    public List<String> findMemberIdsByMemberIdIn(Collection<String> memberIds) {
+        return memberIds.stream()
+                .distinct()
+                .filter(developers::containsKey)
+                .toList();
+    }
+
+    @Override
+    public List<DeveloperSummary> findByStatusCodeAfter(StatusCode statusCode, long cursor, int limit) {
+        return partitions.get(statusCode).developers.tailMap(cursor, false).values().stream()
+                .limit(limit)
+                .map(developer -> project(DeveloperSummary.class, developer))
+                .toList();
+    }
+
+    /**
+     * lastModified 는 해당 상태에 행이 들어오거나 빠진 마지막 시각이다. 빠진 경우도 올라가므로 max(updatedAt) 와 달리 줄지 않는다.
+     */
+    @Override
+    public DeveloperCollectionVersion findCollectionVersion(StatusCode statusCode) {
+        StatusPartition partition = partitions.get(statusCode);
+        Map<String, Object> version = new HashMap<>();
+        version.put("developerCount", partition.count.get());
+        version.put("lastModified", partition.lastModified.get());
+        return projectionFactory.createProjection(DeveloperCollectionVersion.class, version);
+    }
+
+    @Override
+    public Stream<DeveloperSummary> streamByStatusCode(StatusCode statusCode) {
+        return partitions.get(statusCode).developers.values().stream()
+                .map(developer -> project(DeveloperSummary.class, developer));
+    }
+
+    /**
+     * 상태 조건이 있으면 그 상태의 색인만 훑는다. 정렬과 null 순서(오름차순에서 앞)는 H2 와 같게 맞춘다.
+     */
+    @Override
+    public Page<Developer> search(SearchDeveloper.Request request) {
+        Comparator<Developer> comparator = comparatorOf(request.getSort());
+        if (request.getDirection() == Sort.Direction.DESC) comparator = comparator.reversed();
+        Collection<Developer> source = request.getStatusCode() == null
+                ? developersById.values()
+                : partitions.get(request.getStatusCode()).developers.values();
+
+        List<Developer> matched = source.stream()
+                .filter(developer -> matches(request, developer))
+                .sorted(comparator.thenComparing(Developer::getId))
+                .toList();
+        int from = (int) Math.min((long) request.getPage() * request.getSize(), matched.size());
+        int to = Math.min(from + request.getSize(), matched.size());
+        Sort sort = Sort.by(request.getDirection(), request.getSort()).and(Sort.by("id"));
+
+        return new PageImpl<>(
+                matched.subList(from, to).stream().map(InMemoryDeveloperStore::copyOf).toList(),
+                PageRequest.of(request.getPage(), request.getSize(), sort),
+                matched.size());
+    }
+
+    private static Comparator<Developer> comparatorOf(String property) {
+        return switch (property) {
+            case "memberId" -> comparing(Developer::getMemberId, nullsFirst(naturalOrder()));
+            case "experienceYears" -> comparing(Developer::getExperienceYears, nullsFirst(naturalOrder()));
+            case "age" -> comparing(Developer::getAge, nullsFirst(naturalOrder()));
+            default -> comparing(Developer::getId);
+        };
+    }
+
+    private static boolean matches(SearchDeveloper.Request request, Developer developer) {
+        return (request.getDeveloperLevel() == null || request.getDeveloperLevel() == developer.getDeveloperLevel())
+                && (request.getDeveloperSkillType() == null
+                || request.getDeveloperSkillType() == developer.getDeveloperSkillType())
+                && between(developer.getExperienceYears(),
+                request.getMinExperienceYears(), request.getMaxExperienceYears())
+                && between(developer.getAge(), request.getMinAge(), request.getMaxAge());
+    }
+
+    private static boolean between(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) return true;
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    @Override
+    public List<DeveloperStatisticsRow> countGroupByStatusCodeAndLevelAndSkillType() {
+        Map<List<Object>, long[]> groups = new LinkedHashMap<>();
+        for (Developer developer : developersById.values()) {
+            long[] group = groups.computeIfAbsent(Arrays.asList(developer.getStatusCode(),
+                    developer.getDeveloperLevel(), developer.getDeveloperSkillType()), key -> new long[2]);
+            group[0]++;
+            group[1] += developer.getExperienceYears() == null ? 0 : developer.getExperienceYears();
+        }
+
+        return groups.entrySet().stream()
+                .map(group -> {
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("statusCode", group.getKey().get(0));
+                    row.put("developerLevel", group.getKey().get(1));
+                    row.put("developerSkillType", group.getKey().get(2));
+                    row.put("developerCount", group.getValue()[0]);
+                    row.put("experienceYearsSum", group.getValue()[1]);
+                    return projectionFactory.createProjection(DeveloperStatisticsRow.class, row);
+                })
+                .toList();
+    }
+
+    @Override
+    public Stream<DeveloperIndexRow> streamIndexRows() {
+        return developersById.values().stream()
+                .map(developer -> project(DeveloperIndexRow.class, developer));
+    }
+
+    @Override
+    public Stream<DeveloperExportView> streamAfter(long id) {
+        return developersById.tailMap(id, false).values().stream()
+                .map(developer -> project(DeveloperExportView.class, developer));
+    }
+
+    /**
+     * memberId 의 compute 안에서만 부른다. 상태가 같으면 상태 색인은 제자리에서 바꿔 끼운다.
+     */
+    private void reindex(Developer before, Developer after) {
+        if (before != null && (after == null || before.getStatusCode() != after.getStatusCode())) {
+            partitions.get(before.getStatusCode()).remove(before);
+        }
+        if (after != null) {
+            partitions.get(after.getStatusCode()).put(after);
+            developersById.put(after.getId(), after);
+        } else {
+            developersById.remove(before.getId());
+        }
+    }
+
+    private <T> T project(Class<T> type, Developer developer) {
+        return projectionFactory.createProjection(type, developer);
+    }
+
+    private static Developer copyOf(Developer developer) {
+        return Developer.builder()
+                .id(developer.getId())
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .memberId(developer.getMemberId())
+                .name(developer.getName())
+                .age(developer.getAge())
+                .statusCode(developer.getStatusCode())
+                .version(developer.getVersion())
+                .createdAt(developer.getCreatedAt())
+                .updatedAt(developer.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * ConcurrentSkipListMap.size() 는 전체를 세므로 건수는 따로 센다.
+     */
+    private static class StatusPartition {
+
+        private final ConcurrentNavigableMap<Long, Developer> developers = new ConcurrentSkipListMap<>();
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicReference<LocalDateTime> lastModified = new AtomicReference<>();
+
+        void put(Developer developer) {
+            if (developers.put(developer.getId(), developer) == null) count.incrementAndGet();
+            touch(developer.getUpdatedAt());
+        }
+
+        void remove(Developer developer) {
+            if (developers.remove(developer.getId()) != null) count.decrementAndGet();
+            touch(LocalDateTime.now());
+        }
+
+        private void touch(LocalDateTime modifiedAt) {
+            lastModified.accumulateAndGet(modifiedAt,
+                    (current, candidate) -> current == null || candidate.isAfter(current) ? candidate : current);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperIndexRow;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 보관 행 전체, 현재 퇴직 상태인 행, memberId 별 이력을 각각 id 순서 색인으로 두고 현재 퇴직 행은 memberId 로도 찾는다.
+ * InMemoryDeveloperStore 와 같이 쓰기는 memberId 의 compute 안에서 색인을 함께 바꾸고, 밖으로는 복사본만 내보낸다.
+ */
+public class InMemoryRetiredDeveloperStore implements RetiredDeveloperStore {
+
+    private final ConcurrentNavigableMap<Long, RetiredDeveloper> retiredDevelopersById = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, RetiredDeveloper> retiredById = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, RetiredDeveloper> retiredByMemberId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentNavigableMap<Long, RetiredDeveloper>> historyByMemberId =
+            new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @Override
+    public RetiredDeveloper archive(RetiredDeveloper retiredDeveloper) {
+        LocalDateTime now = LocalDateTime.now();
+        RetiredDeveloper stored = copyOf(retiredDeveloper);
+        stored.setId(sequence.incrementAndGet());
+        stored.setCreatedAt(now);
+        stored.setUpdatedAt(now);
+        retiredByMemberId.compute(stored.getMemberId(), (memberId, current) -> reindex(current, stored));
+
+        retiredDeveloper.setId(stored.getId());
+        retiredDeveloper.setCreatedAt(now);
+        retiredDeveloper.setUpdatedAt(now);
+        return retiredDeveloper;
+    }
+
+    @Override
+    public void archiveAll(List<RetiredDeveloper> retiredDevelopers) {
+        retiredDevelopers.forEach(this::archive);
+    }
+
+    @Override
+    public RetiredDeveloper update(RetiredDeveloper retiredDeveloper) {
+        RetiredDeveloper updated = copyOf(retiredDeveloper);
+        updated.setUpdatedAt(LocalDateTime.now());
+        retiredByMemberId.compute(updated.getMemberId(), (memberId, current) -> reindex(current, updated));
+
+        retiredDeveloper.setUpdatedAt(updated.getUpdatedAt());
+        return retiredDeveloper;
+    }
+
+    @Override
+    public Optional<RetiredDeveloper> findRetiredByMemberId(String memberId) {
+        return Optional.ofNullable(retiredByMemberId.get(memberId)).map(InMemoryRetiredDeveloperStore::copyOf);
+    }
+
+    @Override
+    public boolean isRetired(String memberId) {
+        return retiredByMemberId.containsKey(memberId);
+    }
+
+    @Override
+    public List<String> findRetiredMemberIdsByMemberIdIn(Collection<String> memberIds) {
+        return memberIds.stream()
+                .distinct()
+                .filter(retiredByMemberId::containsKey)
+                .toList();
+    }
+
+    @Override
+    public long countRetired() {
+        return retiredByMemberId.size();
+    }
+
+    @Override
+    public List<RetiredDeveloper> findRetired(long beforeId, int limit) {
+        return retiredById.headMap(beforeId, false).descendingMap().values().stream()
+                .limit(limit)
+                .map(InMemoryRetiredDeveloperStore::copyOf)
+                .toList();
+    }
+
+    @Override
+    public List<RetiredDeveloper> findHistory(String memberId, long beforeId, int limit) {
+        ConcurrentNavigableMap<Long, RetiredDeveloper> history = historyByMemberId.get(memberId);
+        if (history == null) return List.of();
+        return history.headMap(beforeId, false).descendingMap().values().stream()
+                .limit(limit)
+                .map(InMemoryRetiredDeveloperStore::copyOf)
+                .toList();
+    }
+
+    @Override
+    public Stream<RetiredDeveloperIndexRow> streamIndexRows() {
+        return retiredById.values().stream()
+                .map(retiredDeveloper -> projectionFactory.createProjection(
+                        RetiredDeveloperIndexRow.class, retiredDeveloper));
+    }
+
+    @Override
+    public Stream<RetiredDeveloperExportView> streamAfter(long id) {
+        return retiredDevelopersById.tailMap(id, false).values().stream()
+                .map(retiredDeveloper -> projectionFactory.createProjection(
+                        RetiredDeveloperExportView.class, retiredDeveloper));
+    }
+
+    /**
+     * memberId 의 compute 안에서만 부르며, 돌려준 값이 그 memberId 의 현재 퇴직 행이 된다.
+     */
+    private RetiredDeveloper reindex(RetiredDeveloper current, RetiredDeveloper stored) {
+        retiredDevelopersById.put(stored.getId(), stored);
+        historyByMemberId.computeIfAbsent(stored.getMemberId(), memberId -> new ConcurrentSkipListMap<>())
+                .put(stored.getId(), stored);
+
+        if (stored.getRehiredAt() != null) {
+            retiredById.remove(stored.getId());
+            return current != null && current.getId().equals(stored.getId()) ? null : current;
+        }
+        if (current != null && !current.getId().equals(stored.getId())) retiredById.remove(current.getId());
+        retiredById.put(stored.getId(), stored);
+        return stored;
+    }
+
+    private static RetiredDeveloper copyOf(RetiredDeveloper retiredDeveloper) {
+        return RetiredDeveloper.builder()
+                .id(retiredDeveloper.getId())
+                .developerId(retiredDeveloper.getDeveloperId())
+                .memberId(retiredDeveloper.getMemberId())
+                .name(retiredDeveloper.getName())
+                .age(retiredDeveloper.getAge())
+                .developerLevel(retiredDeveloper.getDeveloperLevel())
+                .developerSkillType(retiredDeveloper.getDeveloperSkillType())
+                .experienceYears(retiredDeveloper.getExperienceYears())
+                .hiredAt(retiredDeveloper.getHiredAt())
+                .retiredAt(retiredDeveloper.getRetiredAt())
+                .rehiredAt(retiredDeveloper.getRehiredAt())
+                .createdAt(retiredDeveloper.getCreatedAt())
+                .updatedAt(retiredDeveloper.getUpdatedAt())
+                .build();
+    }
+}
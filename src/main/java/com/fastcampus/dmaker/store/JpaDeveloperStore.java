@@ -0,0 +1,177 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.SearchDeveloper;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.repository.projection.DeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.DeveloperIndexRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperStatisticsRow;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.fastcampus.dmaker.repository.DeveloperSpecifications.*;
+
+/**
+ * DeveloperRepository 위의 구현. 트랜잭션은 호출하는 서비스가 연다.
+ * update 는 영속 상태의 developer 를 flush 하는 것으로 끝나며, 버전 검사는 @Version 이 한다.
+ */
+@RequiredArgsConstructor
+public class JpaDeveloperStore implements DeveloperStore {
+
+    private final DeveloperRepository developerRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public Developer create(Developer developer) {
+        try {
+            return developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException e) {
+            if (isMemberIdConflict(e)) throw DMakerException.of(DUPLICATED_MEMBER_ID);
+            throw e;
+        }
+    }
+
+    private boolean isMemberIdConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cause
+                && cause.getConstraintName() != null
+                && cause.getConstraintName().toLowerCase().contains(Developer.MEMBER_ID_UNIQUE_CONSTRAINT);
+    }
+
+    /**
+     * saveAll 뒤 flush 해서 JDBC batch 로 보내고, 영속성 컨텍스트를 비워 배치마다 메모리가 쌓이지 않게 한다.
+     * memberId unique 제약 위반은 create 처럼 DUPLICATED_MEMBER_ID 로 바꾼다. 트랜잭션은 롤백된다.
+     */
+    @Override
+    public void createAll(List<Developer> developers) {
+        try {
+            developerRepository.saveAll(developers);
+            developerRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isMemberIdConflict(e)) throw DMakerException.of(DUPLICATED_MEMBER_ID);
+            throw e;
+        }
+        entityManager.clear();
+    }
+
+    @Override
+    public Developer update(Developer developer) {
+        flush();
+        return developer;
+    }
+
+    @Override
+    public void delete(Developer developer) {
+        developerRepository.delete(developer);
+        flush();
+    }
+
+    private void flush() {
+        try {
+            developerRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw DMakerException.of(DEVELOPER_VERSION_CONFLICT);
+        }
+    }
+
+    /**
+     * 재직 행을 쓰기 잠금으로 읽은 뒤 그 id 만 지운다. 먼저 잠근 트랜잭션이 끝날 때까지 다른 삭제는 기다렸다가 지워진 행을 보지 못한다.
+     */
+    @Override
+    public List<Developer> deleteEmployed(Collection<String> memberIds) {
+        List<Developer> employed = developerRepository.findByMemberIdInAndStatusCode(memberIds, StatusCode.EMPLOYED);
+        if (employed.isEmpty()) return employed;
+
+        developerRepository.deleteAllByIdInBatch(employed.stream().map(Developer::getId).toList());
+        employed.forEach(entityManager::detach);
+        return employed;
+    }
+
+    @Override
+    public Optional<Developer> findByMemberId(String memberId) {
+        return developerRepository.findByMemberId(memberId);
+    }
+
+    @Override
+    public boolean existsByMemberId(String memberId) {
+        return developerRepository.existsByMemberId(memberId);
+    }
+
+    @Override
+    public Optional<DeveloperDetailView> findDetailByMemberId(String memberId) {
+        return developerRepository.findDetailByMemberId(memberId);
+    }
+
+    @Override
+    public List<DeveloperDetailView> findDetailsByMemberIdIn(Collection<String> memberIds) {
+        return developerRepository.findByMemberIdIn(memberIds);
+    }
+
+    @Override
+    public List<String> findMemberIdsByMemberIdIn(Collection<String> memberIds) {
+        return developerRepository.findMemberIdsByMemberIdIn(memberIds);
+    }
+
+    @Override
+    public List<DeveloperSummary> findByStatusCodeAfter(StatusCode statusCode, long cursor, int limit) {
+        return developerRepository.findByStatusCodeEqualsAndIdGreaterThanOrderByIdAsc(
+                statusCode, cursor, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public DeveloperCollectionVersion findCollectionVersion(StatusCode statusCode) {
+        return developerRepository.findCollectionVersionByStatusCode(statusCode);
+    }
+
+    @Override
+    public Stream<DeveloperSummary> streamByStatusCode(StatusCode statusCode) {
+        return developerRepository.streamByStatusCodeEqualsOrderByIdAsc(statusCode);
+    }
+
+    @Override
+    public Page<Developer> search(SearchDeveloper.Request request) {
+        Specification<Developer> specification = Specification
+                .where(statusCodeEquals(request.getStatusCode()))
+                .and(developerLevelEquals(request.getDeveloperLevel()))
+                .and(developerSkillTypeEquals(request.getDeveloperSkillType()))
+                .and(experienceYearsBetween(request.getMinExperienceYears(), request.getMaxExperienceYears()))
+                .and(ageBetween(request.getMinAge(), request.getMaxAge()));
+        Sort sort = Sort.by(request.getDirection(), request.getSort()).and(Sort.by("id"));
+
+        return developerRepository.findAll(
+                specification, PageRequest.of(request.getPage(), request.getSize(), sort));
+    }
+
+    @Override
+    public List<DeveloperStatisticsRow> countGroupByStatusCodeAndLevelAndSkillType() {
+        return developerRepository.countGroupByStatusCodeAndLevelAndSkillType();
+    }
+
+    @Override
+    public Stream<DeveloperIndexRow> streamIndexRows() {
+        return developerRepository.streamIndexRows();
+    }
+
+    @Override
+    public Stream<DeveloperExportView> streamAfter(long id) {
+        return developerRepository.streamByIdGreaterThanOrderByIdAsc(id);
+    }
+}
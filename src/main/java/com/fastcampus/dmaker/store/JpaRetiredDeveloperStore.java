@@ -0,0 +1,76 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperIndexRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class JpaRetiredDeveloperStore implements RetiredDeveloperStore {
+
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Override
+    public RetiredDeveloper archive(RetiredDeveloper retiredDeveloper) {
+        return retiredDeveloperRepository.save(retiredDeveloper);
+    }
+
+    @Override
+    public void archiveAll(List<RetiredDeveloper> retiredDevelopers) {
+        retiredDeveloperRepository.saveAll(retiredDevelopers);
+    }
+
+    @Override
+    public RetiredDeveloper update(RetiredDeveloper retiredDeveloper) {
+        return retiredDeveloperRepository.save(retiredDeveloper);
+    }
+
+    @Override
+    public Optional<RetiredDeveloper> findRetiredByMemberId(String memberId) {
+        return retiredDeveloperRepository.findFirstByMemberIdAndRehiredAtIsNullOrderByIdDesc(memberId);
+    }
+
+    @Override
+    public boolean isRetired(String memberId) {
+        return retiredDeveloperRepository.existsByMemberIdAndRehiredAtIsNull(memberId);
+    }
+
+    @Override
+    public List<String> findRetiredMemberIdsByMemberIdIn(Collection<String> memberIds) {
+        return retiredDeveloperRepository.findRetiredMemberIdsByMemberIdIn(memberIds);
+    }
+
+    @Override
+    public long countRetired() {
+        return retiredDeveloperRepository.countByRehiredAtIsNull();
+    }
+
+    @Override
+    public List<RetiredDeveloper> findRetired(long beforeId, int limit) {
+        return retiredDeveloperRepository.findByRehiredAtIsNullAndIdLessThanOrderByIdDesc(
+                beforeId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<RetiredDeveloper> findHistory(String memberId, long beforeId, int limit) {
+        return retiredDeveloperRepository.findByMemberIdAndIdLessThanOrderByIdDesc(
+                memberId, beforeId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Stream<RetiredDeveloperIndexRow> streamIndexRows() {
+        return retiredDeveloperRepository.streamIndexRows();
+    }
+
+    @Override
+    public Stream<RetiredDeveloperExportView> streamAfter(long id) {
+        return retiredDeveloperRepository.streamByIdGreaterThanOrderByIdAsc(id);
+    }
+}
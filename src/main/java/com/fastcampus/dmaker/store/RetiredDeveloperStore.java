@@ -0,0 +1,47 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperExportView;
+import com.fastcampus.dmaker.repository.projection.RetiredDeveloperIndexRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 퇴직 보관 행 저장소. rehiredAt 이 null 인 행이 현재 퇴직 상태이며 memberId 마다 최대 한 건이다.
+ */
+public interface RetiredDeveloperStore {
+
+    RetiredDeveloper archive(RetiredDeveloper retiredDeveloper);
+
+    void archiveAll(List<RetiredDeveloper> retiredDevelopers);
+
+    /**
+     * findRetiredByMemberId 로 읽은 행을 고친 뒤 넘긴다. (재입사 시 rehiredAt)
+     */
+    RetiredDeveloper update(RetiredDeveloper retiredDeveloper);
+
+    Optional<RetiredDeveloper> findRetiredByMemberId(String memberId);
+
+    boolean isRetired(String memberId);
+
+    List<String> findRetiredMemberIdsByMemberIdIn(Collection<String> memberIds);
+
+    long countRetired();
+
+    /**
+     * 현재 퇴직 상태인 행 중 id 가 beforeId 보다 작은 행을 id 역순으로 limit 건까지 돌려준다.
+     */
+    List<RetiredDeveloper> findRetired(long beforeId, int limit);
+
+    /**
+     * memberId 의 퇴직 이력(재입사한 행 포함)을 id 역순으로 limit 건까지 돌려준다.
+     */
+    List<RetiredDeveloper> findHistory(String memberId, long beforeId, int limit);
+
+    Stream<RetiredDeveloperIndexRow> streamIndexRows();
+
+    Stream<RetiredDeveloperExportView> streamAfter(long id);
+}
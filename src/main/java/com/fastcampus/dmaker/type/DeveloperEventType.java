@@ -0,0 +1,17 @@
+package com.fastcampus.dmaker.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum DeveloperEventType {
+    CREATED("입사"),
+    LEVEL_CHANGED("레벨 변경"),
+    SKILL_TYPE_CHANGED("스킬 변경"),
+    EXPERIENCE_YEARS_CHANGED("연차 변경"),
+    RETIRED("퇴직"),
+    REHIRED("재입사");
+
+    private final String description;
+}
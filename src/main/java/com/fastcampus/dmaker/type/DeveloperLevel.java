@@ -4,7 +4,7 @@ import com.fastcampus.dmaker.exception.DMakerException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_JUNIOR_EXPERIENCE_YEARS;
 import static com.fastcampus.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
@@ -20,9 +20,9 @@ public enum DeveloperLevel {
     SENIOR("시니어 개발자", years -> years >= MIN_SENIOR_EXPERIENCE_YEARS);
 
     private final String description;
-    private final Function<Integer, Boolean> validateFunction;
+    private final IntPredicate validateFunction;
 
-    public void validateExperienceYears(Integer years) {
-        if(validateFunction.apply(years)) throw new DMakerException(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
+    public void validateExperienceYears(int years) {
+        if(!validateFunction.test(years)) throw DMakerException.of(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
     }
 }
@@ -0,0 +1,14 @@
+package com.fastcampus.dmaker.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportTarget {
+    DEVELOPER("개발자", "developers"),
+    RETIRED_DEVELOPER("퇴직 개발자", "retired-developers");
+
+    private final String description;
+    private final String fileName;
+}
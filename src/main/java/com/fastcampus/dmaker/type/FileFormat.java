@@ -0,0 +1,15 @@
+package com.fastcampus.dmaker.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FileFormat {
+    CSV("CSV", "csv", "text/csv"),
+    NDJSON("줄 단위 JSON", "ndjson", "application/x-ndjson");
+
+    private final String description;
+    private final String extension;
+    private final String contentType;
+}
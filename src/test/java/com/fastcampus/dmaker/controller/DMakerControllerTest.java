@@ -1,7 +1,16 @@
 package com.fastcampus.dmaker.controller;
 
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.dmaker.dto.DeveloperDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.repository.projection.DeveloperCollectionVersion;
 import com.fastcampus.dmaker.service.DMakerService;
+import com.fastcampus.dmaker.service.DeveloperEventService;
+import com.fastcampus.dmaker.service.DeveloperIndex;
+import com.fastcampus.dmaker.service.DeveloperStatistics;
+import com.fastcampus.dmaker.service.ExportService;
+import com.fastcampus.dmaker.service.ImportService;
+import com.fastcampus.dmaker.service.RetirementService;
 import com.fastcampus.dmaker.type.DeveloperLevel;
 import com.fastcampus.dmaker.type.DeveloperSkillType;
 import org.junit.jupiter.api.Test;
@@ -12,12 +21,22 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Set;
 
+import static com.fastcampus.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
 import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +49,24 @@ class DMakerControllerTest {
     @MockBean
     private DMakerService dMakerService;
 
+    @MockBean
+    private RetirementService retirementService;
+
+    @MockBean
+    private DeveloperStatistics developerStatistics;
+
+    @MockBean
+    private DeveloperIndex developerIndex;
+
+    @MockBean
+    private DeveloperEventService developerEventService;
+
+    @MockBean
+    private ExportService exportService;
+
+    @MockBean
+    private ImportService importService;
+
     protected MediaType contentType = new MediaType(MediaType.APPLICATION_JSON.getType(),
             MediaType.APPLICATION_JSON.getSubtype(),
             StandardCharsets.UTF_8);
@@ -44,20 +81,111 @@ class DMakerControllerTest {
                 .developerSkillType(DeveloperSkillType.FRONT_END)
                 .developerLevel(DeveloperLevel.SENIOR)
                 .memberId("member2").build();
-        given(dMakerService.getAllEmployedDevelopers())
-                .willReturn(Arrays.asList(juniorDto, seniorDto));
+        given(dMakerService.getEmployedDevelopersVersion())
+                .willReturn(collectionVersion(2L, LocalDateTime.of(2024, 1, 1, 0, 0)));
+        given(dMakerService.getEmployedDevelopers(null, DEFAULT_PAGE_SIZE))
+                .willReturn(DeveloperPageDto.builder()
+                        .developers(Arrays.asList(juniorDto, seniorDto))
+                        .nextCursor(2L)
+                        .hasNext(true)
+                        .build());
 
         mvc.perform(get("/developers").contentType(contentType))
                 .andExpect(status().isOk())
                 .andDo(print())
-                .andExpect(jsonPath("$.[0].developerSkillType",
+                .andExpect(jsonPath("$.developers[0].developerSkillType",
                         is(DeveloperSkillType.BACK_END.name())))
-                .andExpect(jsonPath("$.[0].developerLevel",
+                .andExpect(jsonPath("$.developers[0].developerLevel",
                         is(DeveloperLevel.JUNIOR.name())))
-                .andExpect(jsonPath("$.[1].developerSkillType",
+                .andExpect(jsonPath("$.developers[1].developerSkillType",
                         is(DeveloperSkillType.FRONT_END.name())))
-                .andExpect(jsonPath("$.[1].developerLevel",
-                        is(DeveloperLevel.SENIOR.name())));
+                .andExpect(jsonPath("$.developers[1].developerLevel",
+                        is(DeveloperLevel.SENIOR.name())))
+                .andExpect(jsonPath("$.nextCursor", is(2)))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+    }
+
+    @Test
+    void getDeveloperDetail_with_etag() throws Exception {
+        given(dMakerService.getDeveloperDetail("member1"))
+                .willReturn(DeveloperDetailDto.builder()
+                        .developerLevel(DeveloperLevel.JUNIOR)
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .memberId("member1")
+                        .version(3L)
+                        .build());
+
+        mvc.perform(get("/developer/member1").contentType(contentType))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.memberId", is("member1")));
+    }
+
+    @Test
+    void getDeveloperDetail_not_modified() throws Exception {
+        given(dMakerService.getDeveloperDetail("member1"))
+                .willReturn(DeveloperDetailDto.builder()
+                        .memberId("member1")
+                        .version(3L)
+                        .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                        .build());
+
+        mvc.perform(get("/developer/member1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void editDeveloper_passes_strong_if_match_versions_only() throws Exception {
+        given(dMakerService.editDeveloper(eq("member1"), any(), any()))
+                .willReturn(DeveloperDetailDto.builder().memberId("member1").version(4L).build());
+        String body = "{\"developerLevel\":\"JUNIOR\",\"developerSkillType\":\"BACK_END\",\"experienceYears\":1}";
+
+        mvc.perform(put("/developer/member1").contentType(contentType)
+                        .header("If-Match", "W/\"2\", \"3\", \"4\"").content(body))
+                .andExpect(status().isOk());
+        mvc.perform(put("/developer/member1").contentType(contentType)
+                        .header("If-Match", "W/\"4\"").content(body))
+                .andExpect(status().isOk());
+
+        verify(dMakerService).editDeveloper(eq("member1"), any(), eq(Set.of(3L, 4L)));
+        verify(dMakerService).editDeveloper(eq("member1"), any(), eq(Set.of()));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getAllDevelopers_not_modified_skips_list_query() throws Exception {
+        given(dMakerService.getEmployedDevelopersVersion())
+                .willReturn(collectionVersion(2L, LocalDateTime.of(2024, 1, 1, 0, 0)));
+
+        String eTag = mvc.perform(get("/developers").param("size", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+        mvc.perform(get("/developers").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        verify(dMakerService, times(1)).getEmployedDevelopers(any(), anyInt());
+    }
+
+    @Test
+    void getAllDevelopers_ignores_if_modified_since() throws Exception {
+        given(dMakerService.getEmployedDevelopersVersion())
+                .willReturn(collectionVersion(1L, LocalDateTime.of(2024, 1, 1, 0, 0)));
+
+        mvc.perform(get("/developers").header("If-Modified-Since", "Wed, 01 Jan 2025 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
+    private static DeveloperCollectionVersion collectionVersion(Long developerCount, LocalDateTime lastModified) {
+        return new DeveloperCollectionVersion() {
+            @Override
+            public Long getDeveloperCount() {
+                return developerCount;
+            }
+
+            @Override
+            public LocalDateTime getLastModified() {
+                return lastModified;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.fastcampus.dmaker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.fastcampus.dmaker.code.StatusCode.EMPLOYED;
+import static com.fastcampus.dmaker.code.StatusCode.RETIRED;
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeveloperBitmapIndexTest {
+
+    @Test
+    void intersects_level_skill_and_status() {
+        DeveloperBitmapIndex index = new DeveloperBitmapIndex();
+        index.put("member1", SENIOR, BACK_END, EMPLOYED);
+        index.put("member2", SENIOR, FRONT_END, EMPLOYED);
+        index.put("member3", SENIOR, BACK_END, RETIRED);
+        index.put("member4", JUNIOR, BACK_END, EMPLOYED);
+        index.put("member5", SENIOR, BACK_END, EMPLOYED);
+
+        DeveloperBitmapIndex.Result result = index.find(SENIOR, BACK_END, EMPLOYED, 0, 10);
+
+        assertEquals(2, result.getTotalCount());
+        assertEquals(List.of("member1", "member5"), result.getMemberIds());
+        assertEquals(4, index.count(null, null, EMPLOYED));
+        assertEquals(5, index.count(null, null, null));
+        assertEquals(List.of("member5"), index.find(SENIOR, BACK_END, EMPLOYED, 1, 10).getMemberIds());
+    }
+
+    @Test
+    void put_again_moves_developer_to_new_values() {
+        DeveloperBitmapIndex index = new DeveloperBitmapIndex();
+        index.put("member1", JUNIOR, BACK_END, EMPLOYED);
+        index.put("member1", SENIOR, FRONT_END, RETIRED);
+
+        assertEquals(1, index.size());
+        assertEquals(0, index.count(JUNIOR, null, null));
+        assertEquals(0, index.count(null, BACK_END, null));
+        assertEquals(0, index.count(null, null, EMPLOYED));
+        assertEquals(1, index.count(SENIOR, FRONT_END, RETIRED));
+        assertTrue(index.estimatedMemoryBytes() > 0);
+    }
+}
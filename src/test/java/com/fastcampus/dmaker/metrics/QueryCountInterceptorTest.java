@@ -0,0 +1,73 @@
+package com.fastcampus.dmaker.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryCountInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountInterceptor interceptor = new QueryCountInterceptor(meterRegistry);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    private double recordedQueries() {
+        return meterRegistry.get("dmaker.db.queries").summary().totalAmount();
+    }
+
+    @Test
+    void counts_queries_of_synchronous_request() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/developer/member1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/developer/{memberId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        inspector.inspect("select 1");
+        interceptor.afterCompletion(request, response, null, null);
+        inspector.inspect("select 2");
+
+        assertEquals(1, recordedQueries());
+    }
+
+    @Test
+    void counts_queries_run_on_async_thread() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/developers/stream");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/developers/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        Callable<Void> task = () -> null;
+
+        interceptor.preHandle(request, response, null);
+        inspector.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                interceptor.preProcess(webRequest, task);
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+                interceptor.postProcess(webRequest, task, null);
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(3, recordedQueries());
+    }
+}
@@ -0,0 +1,88 @@
+package com.fastcampus.dmaker.ratelimit;
+
+import com.fastcampus.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.TOO_MANY_REQUESTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitInterceptorTest {
+
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(
+            properties(bandwidth(3, 0.001), bandwidth(1, 0.001)), new SimpleMeterRegistry());
+
+    private static RateLimitProperties properties(RateLimitProperties.Bandwidth total,
+                                                  RateLimitProperties.Bandwidth perClient) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setClientIdHeader("X-Client-Id");
+        properties.setClientIdleTimeout(Duration.ofMinutes(10));
+        properties.setMaxClients(100);
+
+        RateLimitProperties.EndpointLimit limit = new RateLimitProperties.EndpointLimit();
+        limit.setTotal(total);
+        limit.setPerClient(perClient);
+        properties.getEndpoints().put("POST /create-developer", limit);
+        return properties;
+    }
+
+    private static RateLimitProperties.Bandwidth bandwidth(long capacity, double refillPerSecond) {
+        RateLimitProperties.Bandwidth bandwidth = new RateLimitProperties.Bandwidth();
+        bandwidth.setCapacity(capacity);
+        bandwidth.setRefillPerSecond(refillPerSecond);
+        return bandwidth;
+    }
+
+    private boolean handle(String clientId) throws Exception {
+        return handle(interceptor, clientId);
+    }
+
+    private static boolean handle(RateLimitInterceptor interceptor, String clientId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/create-developer");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/create-developer");
+        request.addHeader("X-Client-Id", clientId);
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        return interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+    }
+
+    @Test
+    void client_over_its_limit_does_not_use_up_shared_bucket() throws Exception {
+        assertTrue(handle("client1"));
+        for (int i = 0; i < 5; i++) {
+            DMakerException exception = assertThrows(DMakerException.class, () -> handle("client1"));
+            assertEquals(TOO_MANY_REQUESTS, exception.getDMakerErrorCode());
+        }
+
+        assertTrue(handle("client2"));
+        assertTrue(handle("client3"));
+        assertThrows(DMakerException.class, () -> handle("client4"));
+    }
+
+    @Test
+    void client_rejected_by_shared_bucket_keeps_its_token() throws Exception {
+        RateLimitInterceptor fastRefill = new RateLimitInterceptor(
+                properties(bandwidth(1, 2), bandwidth(1, 0.001)), new SimpleMeterRegistry());
+        assertTrue(handle(fastRefill, "client1"));
+        assertThrows(DMakerException.class, () -> handle(fastRefill, "client2"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            try {
+                assertTrue(handle(fastRefill, "client2"));
+                return;
+            } catch (DMakerException e) {
+                Thread.sleep(10);
+            }
+        }
+        assertTrue(handle(fastRefill, "client2"));
+    }
+}
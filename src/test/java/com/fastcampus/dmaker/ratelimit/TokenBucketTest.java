@@ -0,0 +1,65 @@
+package com.fastcampus.dmaker.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allows_burst_then_refills() {
+        TokenBucket bucket = new TokenBucket(3, 10, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        long waitNanos = bucket.tryConsume(0);
+        assertEquals(SECOND / 10, waitNanos);
+
+        assertEquals(0, bucket.tryConsume(waitNanos));
+        assertTrue(bucket.tryConsume(waitNanos) > 0);
+    }
+
+    @Test
+    void refund_returns_consumed_token() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0) > 0);
+        bucket.refund();
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0) > 0);
+    }
+
+    @Test
+    void concurrent_consumers_never_exceed_capacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, 1, 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    for (int j = 0; j < 1_000; j++) {
+                        if (bucket.tryConsume(0) == 0) granted.incrementAndGet();
+                    }
+                });
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(100, granted.get());
+    }
+}
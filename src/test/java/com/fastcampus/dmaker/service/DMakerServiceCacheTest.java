@@ -0,0 +1,219 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.code.StatusCode.EMPLOYED;
+import static com.fastcampus.dmaker.config.CacheConfig.DEVELOPER_DETAIL_CACHE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 캐시 애노테이션이 실제로 적용된 DMakerService 로 상세 캐시와 수정이 겹치는 순서, 동시 조회가 한 번만 읽는지를 확인한다.
+ */
+@SpringJUnitConfig
+class DMakerServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(DEVELOPER_DETAIL_CACHE);
+        }
+
+        @Bean
+        DMakerService dMakerService(DeveloperStore developerStore, RetiredDeveloperStore retiredDeveloperStore,
+                                    CacheManager cacheManager, DeveloperStatistics developerStatistics,
+                                    DeveloperIndex developerIndex, DeveloperEventService developerEventService) {
+            return new DMakerService(developerStore, retiredDeveloperStore, cacheManager,
+                    developerStatistics, developerIndex, developerEventService,
+                    TransactionOperations.withoutTransaction());
+        }
+    }
+
+    @MockBean
+    private DeveloperStore developerStore;
+
+    @MockBean
+    private RetiredDeveloperStore retiredDeveloperStore;
+
+    @MockBean
+    private DeveloperStatistics developerStatistics;
+
+    @MockBean
+    private DeveloperIndex developerIndex;
+
+    @MockBean
+    private DeveloperEventService developerEventService;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private static final int CONCURRENT_READS = 8;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private Developer storedDeveloper() {
+        return Developer.builder()
+                .id(1L)
+                .memberId("member1")
+                .developerLevel(JUNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(1)
+                .statusCode(EMPLOYED)
+                .name("name")
+                .age(30)
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void edit_committed_during_load_wins_over_loaded_value() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(developerStore.findDetailByMemberId("member1")).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(projectionFactory.createProjection(DeveloperDetailView.class, storedDeveloper()));
+        });
+        given(developerStore.findByMemberId("member1")).willReturn(Optional.of(storedDeveloper()));
+        EditDeveloper.Request edit = EditDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(5)
+                .build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<DeveloperDetailDto> read = executor.submit(() -> dMakerService.getDeveloperDetail("member1"));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            Thread editor = new Thread(() -> dMakerService.editDeveloper("member1", edit, null));
+            editor.start();
+            awaitBlockedOrFinished(editor);
+            release.countDown();
+
+            assertEquals(JUNIOR, read.get(5, TimeUnit.SECONDS).getDeveloperLevel());
+            editor.join(TimeUnit.SECONDS.toMillis(5));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        DeveloperDetailDto cached = cacheManager.getCache(DEVELOPER_DETAIL_CACHE)
+                .get("member1", DeveloperDetailDto.class);
+        assertEquals(JUNGNIOR, cached.getDeveloperLevel());
+    }
+
+    @Test
+    void concurrent_reads_of_same_member_load_once() throws Exception {
+        List<FutureTask<DeveloperDetailDto>> reads = readConcurrently("member2", Optional.of(
+                projectionFactory.createProjection(DeveloperDetailView.class, storedDeveloper())));
+
+        for (FutureTask<DeveloperDetailDto> read : reads) {
+            assertEquals(JUNIOR, read.get(5, TimeUnit.SECONDS).getDeveloperLevel());
+        }
+        verify(developerStore, times(1)).findDetailByMemberId("member2");
+    }
+
+    @Test
+    void concurrent_reads_of_missing_member_load_once() throws Exception {
+        List<FutureTask<DeveloperDetailDto>> reads = readConcurrently("unknown", Optional.empty());
+
+        for (FutureTask<DeveloperDetailDto> read : reads) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> read.get(5, TimeUnit.SECONDS));
+            assertEquals(NO_DEVELOPER, ((DMakerException) exception.getCause()).getDMakerErrorCode());
+        }
+        verify(developerStore, times(1)).findDetailByMemberId("unknown");
+    }
+
+    /**
+     * 첫 조회를 저장소에서 붙잡아 둔 채 나머지 조회를 시작하고, 모두 기다리는 상태가 된 뒤에 로드를 끝낸다.
+     */
+    private List<FutureTask<DeveloperDetailDto>> readConcurrently(
+            String memberId, Optional<DeveloperDetailView> stored) throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(developerStore.findDetailByMemberId(memberId)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return stored;
+        });
+
+        List<FutureTask<DeveloperDetailDto>> reads = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_READS; i++) {
+                FutureTask<DeveloperDetailDto> read = new FutureTask<>(() -> dMakerService.getDeveloperDetail(memberId));
+                Thread thread = new Thread(read);
+                thread.start();
+                reads.add(read);
+                threads.add(thread);
+                if (i == 0) assertTrue(loading.await(5, TimeUnit.SECONDS));
+            }
+            for (Thread thread : threads.subList(1, threads.size())) awaitWaiting(thread);
+        } finally {
+            release.countDown();
+        }
+        return reads;
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.isAlive() && thread.getState() == Thread.State.RUNNABLE && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * 수정의 캐시 put 이 진행 중인 로드에 막히거나(정상) 먼저 끝나버릴 때까지(예전 경합) 기다린 뒤 로드를 끝낸다.
+     */
+    private static void awaitBlockedOrFinished(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.isAlive() && thread.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.dto.RetireDevelopers;
+import com.fastcampus.dmaker.dto.RetiredDeveloperPageDto;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.store.InMemoryDeveloperStore;
+import com.fastcampus.dmaker.store.InMemoryRetiredDeveloperStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.fastcampus.dmaker.code.StatusCode.EMPLOYED;
+import static com.fastcampus.dmaker.code.StatusCode.RETIRED;
+import static com.fastcampus.dmaker.config.CacheConfig.DEVELOPER_DETAIL_CACHE;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 저장소만 메모리 구현으로 바꿔 JPA 없이 create / edit / retire / rehire 흐름을 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class DMakerServiceInMemoryStoreTest {
+
+    @Mock
+    private DeveloperStatistics developerStatistics;
+
+    @Mock
+    private DeveloperIndex developerIndex;
+
+    @Mock
+    private DeveloperEventService developerEventService;
+
+    private DMakerService dMakerService;
+
+    @BeforeEach
+    void setUp() {
+        dMakerService = new DMakerService(new InMemoryDeveloperStore(), new InMemoryRetiredDeveloperStore(),
+                new ConcurrentMapCacheManager(DEVELOPER_DETAIL_CACHE),
+                developerStatistics, developerIndex, developerEventService,
+                TransactionOperations.withoutTransaction());
+    }
+
+    private CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(JUNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(2)
+                .memberId(memberId)
+                .name("name")
+                .age(30)
+                .build();
+    }
+
+    @Test
+    void create_edit_retire_rehire() {
+        dMakerService.createDeveloper(createRequest("member1"));
+        dMakerService.createDeveloper(createRequest("member2"));
+        EditDeveloper.Request edit = EditDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(5)
+                .build();
+
+        DeveloperDetailDto edited = dMakerService.editDeveloper("member1", edit, Set.of(0L));
+        assertEquals(JUNGNIOR, edited.getDeveloperLevel());
+        assertEquals(1L, edited.getVersion());
+        DMakerException conflict = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper("member1", edit, Set.of(0L)));
+        assertEquals(DEVELOPER_VERSION_CONFLICT, conflict.getDMakerErrorCode());
+
+        assertEquals(RETIRED, dMakerService.deleteDeveloper("member1").getStatusCode());
+        DMakerException duplicated = assertThrows(DMakerException.class,
+                () -> dMakerService.createDeveloper(createRequest("member1")));
+        assertEquals(DUPLICATED_MEMBER_ID, duplicated.getDMakerErrorCode());
+        RetireDevelopers.ChunkResult retired =
+                dMakerService.retireDevelopers(List.of("member1", "member2", "unknown"));
+        assertEquals(1, retired.getRetiredCount());
+        assertEquals(1, retired.getAlreadyRetiredCount());
+        assertEquals(1, retired.getNotFoundCount());
+        assertEquals(0, dMakerService.getEmployedDevelopers(null, 10).getDevelopers().size());
+
+        DeveloperDetailDto rehired = dMakerService.rehireDeveloper("member1");
+        assertEquals(EMPLOYED, rehired.getStatusCode());
+        assertEquals(JUNGNIOR, rehired.getDeveloperLevel());
+        assertEquals(List.of("member1"), dMakerService.getEmployedDevelopers(null, 10).getDevelopers().stream()
+                .map(DeveloperDto::getMemberId)
+                .toList());
+        RetiredDeveloperPageDto history = dMakerService.getRetiredDevelopers("member1", null, 10);
+        assertEquals(1, history.getRetiredDevelopers().size());
+        assertNotNull(history.getRetiredDevelopers().get(0).getRehiredAt());
+        assertEquals(1, dMakerService.getRetiredDevelopers(null, null, 10).getRetiredDevelopers().size());
+    }
+}
@@ -1,10 +1,21 @@
 package com.fastcampus.dmaker.service;
 
 import com.fastcampus.dmaker.code.StatusCode;
+import com.fastcampus.dmaker.dto.BatchGetDevelopers;
+import com.fastcampus.dmaker.dto.BulkCreateDeveloper;
 import com.fastcampus.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.dmaker.dto.DeveloperPageDto;
+import com.fastcampus.dmaker.dto.EditDeveloper;
+import com.fastcampus.dmaker.dto.RetireDevelopers;
+import com.fastcampus.dmaker.dto.SearchDeveloper;
 import com.fastcampus.dmaker.entity.Developer;
 import com.fastcampus.dmaker.exception.DMakerException;
-import com.fastcampus.dmaker.repository.DeveloperRepository;
+import com.fastcampus.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.dmaker.repository.projection.DeveloperDetailView;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import com.fastcampus.dmaker.type.DeveloperEventType;
 import com.fastcampus.dmaker.type.DeveloperLevel;
 import com.fastcampus.dmaker.type.DeveloperSkillType;
 import org.junit.jupiter.api.Test;
@@ -13,22 +24,47 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static com.fastcampus.dmaker.code.StatusCode.*;
+import static com.fastcampus.dmaker.config.CacheConfig.DEVELOPER_DETAIL_CACHE;
+import static com.fastcampus.dmaker.constant.DMakerConstant.BULK_BATCH_SIZE;
 import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_JUNIOR_EXPERIENCE_YEARS;
 import static com.fastcampus.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
 import static com.fastcampus.dmaker.dto.CreateDeveloper.*;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
 import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 import static com.fastcampus.dmaker.exception.DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_RETIRED_DEVELOPER;
 import static com.fastcampus.dmaker.type.DeveloperLevel.*;
 import static com.fastcampus.dmaker.type.DeveloperSkillType.FRONT_END;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,7 +72,25 @@ import static org.mockito.Mockito.verify;
 class DMakerServiceTest {
 
     @Mock
-    private DeveloperRepository developerRepository;
+    private DeveloperStore developerStore;
+
+    @Mock
+    private RetiredDeveloperStore retiredDeveloperStore;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private DeveloperStatistics developerStatistics;
+
+    @Mock
+    private DeveloperIndex developerIndex;
+
+    @Mock
+    private DeveloperEventService developerEventService;
+
+    @Mock
+    private TransactionOperations transactionOperations;
 
     @InjectMocks
     private DMakerService dMakerService;
@@ -50,6 +104,20 @@ class DMakerServiceTest {
             .age(30)
             .build();
 
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private DeveloperSummary summary(Long id, String memberId) {
+        return projectionFactory.createProjection(DeveloperSummary.class,
+                Developer.builder().id(id).memberId(memberId).build());
+    }
+
+    private void runTransactionsInline() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionOperations).executeWithoutResult(any());
+    }
+
     private Request getCreateRequest(DeveloperLevel level, DeveloperSkillType skillType, Integer experienceYears) {
         return Request.builder()
                 .developerLevel(level)
@@ -63,19 +131,82 @@ class DMakerServiceTest {
 
     @Test
     void getDeveloperDetail() {
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE))
+                .willReturn(new ConcurrentMapCache(DEVELOPER_DETAIL_CACHE));
+        given(developerStore.findDetailByMemberId(anyString()))
+                .willReturn(Optional.of(projectionFactory.createProjection(
+                        DeveloperDetailView.class, defaultDeveloper)));
         DeveloperDetailDto dto = dMakerService.getDeveloperDetail("memberId");
         assertEquals(SENIOR, dto.getDeveloperLevel());
         assertEquals(FRONT_END, dto.getDeveloperSkillType());
         assertEquals(MIN_SENIOR_EXPERIENCE_YEARS, dto.getExperienceYears());
     }
 
+    @Test
+    void getDeveloperDetail_not_found() {
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE))
+                .willReturn(new ConcurrentMapCache(DEVELOPER_DETAIL_CACHE));
+        given(developerStore.findDetailByMemberId("unknown")).willReturn(Optional.empty());
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.getDeveloperDetail("unknown"));
+
+        assertEquals(NO_DEVELOPER, exception.getDMakerErrorCode());
+    }
+
+    @Test
+    void getDeveloperDetails_keeps_request_order_and_marks_not_found() {
+        ConcurrentMapCache cache = new ConcurrentMapCache(DEVELOPER_DETAIL_CACHE);
+        cache.put("member2", DeveloperDetailDto.builder().memberId("member2").build());
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE)).willReturn(cache);
+        given(developerStore.findDetailsByMemberIdIn(List.of("member3", "unknown")))
+                .willReturn(List.of(projectionFactory.createProjection(DeveloperDetailView.class,
+                        Developer.builder().memberId("member3").statusCode(EMPLOYED).build())));
+
+        BatchGetDevelopers.Response response = dMakerService.getDeveloperDetails(
+                List.of("member3", "unknown", "member2", "member3"));
+
+        assertEquals(3, response.getFoundCount());
+        assertEquals(1, response.getNotFoundCount());
+        assertEquals(List.of("member3", "unknown", "member2", "member3"), response.getResults().stream()
+                .map(BatchGetDevelopers.Result::getMemberId)
+                .toList());
+        assertEquals(NO_DEVELOPER, response.getResults().get(1).getErrorCode());
+        assertNull(cache.get("member3"));
+    }
+
+    @Test
+    void getDeveloperDetails_chunks_in_query() {
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE))
+                .willReturn(new ConcurrentMapCache(DEVELOPER_DETAIL_CACHE));
+        List<String> memberIds = IntStream.range(0, BULK_BATCH_SIZE + 1)
+                .mapToObj(i -> "member" + i)
+                .toList();
+
+        BatchGetDevelopers.Response response = dMakerService.getDeveloperDetails(memberIds);
+
+        assertEquals(BULK_BATCH_SIZE + 1, response.getNotFoundCount());
+        verify(developerStore, times(2)).findDetailsByMemberIdIn(anyCollection());
+    }
+
+    @Test
+    void getEmployedDevelopers_with_next_cursor() {
+        given(developerStore.findByStatusCodeAfter(EMPLOYED, 0L, 3))
+                .willReturn(List.of(
+                        summary(1L, "member1"),
+                        summary(2L, "member2"),
+                        summary(3L, "member3")));
+
+        DeveloperPageDto page = dMakerService.getEmployedDevelopers(null, 2);
+
+        assertEquals(2, page.getDevelopers().size());
+        assertEquals(2L, page.getNextCursor());
+        assertTrue(page.isHasNext());
+    }
+
     @Test
     void createDeveloper_success() {
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.empty());
-        given(developerRepository.save(any()))
+        given(developerStore.create(any()))
                 .willReturn(defaultDeveloper);
 
         ArgumentCaptor<Developer> captor =
@@ -83,25 +214,218 @@ class DMakerServiceTest {
 
         dMakerService.createDeveloper(getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS));
 
-        verify(developerRepository, times(1))
-                .save(captor.capture());
+        verify(developerStore, times(1))
+                .create(captor.capture());
         Developer savedDeveloper = captor.getValue();
         assertEquals(SENIOR, savedDeveloper.getDeveloperLevel());
         assertEquals(FRONT_END, savedDeveloper.getDeveloperSkillType());
         assertEquals(MIN_SENIOR_EXPERIENCE_YEARS, savedDeveloper.getExperienceYears());
+        verify(developerEventService, times(1))
+                .record(eq(DeveloperEventType.CREATED), any(), any(), any(), any(), any());
     }
 
     @Test
     void createDeveloper_failed_with_duplicated() {
         Request request = getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
+        given(developerStore.create(any()))
+                .willThrow(DMakerException.of(DUPLICATED_MEMBER_ID));
 
         DMakerException exception = assertThrows(DMakerException.class,
                 () -> dMakerService.createDeveloper(request));
         assertEquals(DUPLICATED_MEMBER_ID, exception.getDMakerErrorCode());
     }
 
+    @Test
+    void createDevelopers_reports_duplicates_per_item() {
+        Request existing = getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        Request fresh = getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        fresh.setMemberId("member2");
+        Request repeated = getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        repeated.setMemberId("member2");
+        given(developerStore.findMemberIdsByMemberIdIn(anyCollection()))
+                .willReturn(List.of("member1"));
+        runTransactionsInline();
+
+        BulkCreateDeveloper.Response response =
+                dMakerService.createDevelopers(List.of(existing, fresh, repeated));
+
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(DUPLICATED_MEMBER_ID, response.getResults().get(0).getErrorCode());
+        assertTrue(response.getResults().get(1).isCreated());
+        assertEquals(DUPLICATED_MEMBER_ID, response.getResults().get(2).getErrorCode());
+        verify(developerStore, times(1)).createAll(any());
+    }
+
+    @Test
+    void createDevelopers_reports_member_inserted_after_check_as_duplicated() {
+        Request raced = getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        raced.setMemberId("member2");
+        Request fresh = getCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        fresh.setMemberId("member3");
+        given(developerStore.findMemberIdsByMemberIdIn(anyCollection()))
+                .willReturn(List.of(), List.of("member2"));
+        willThrow(DMakerException.of(DUPLICATED_MEMBER_ID)).willDoNothing()
+                .given(developerStore).createAll(any());
+        runTransactionsInline();
+
+        BulkCreateDeveloper.Response response = dMakerService.createDevelopers(List.of(raced, fresh));
+
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(DUPLICATED_MEMBER_ID, response.getResults().get(0).getErrorCode());
+        assertTrue(response.getResults().get(1).isCreated());
+        verify(developerStore, times(2)).createAll(any());
+        verify(developerStatistics, times(1)).created(any(), any(), anyInt());
+    }
+
+    @Test
+    void retireDevelopers_skips_retired_and_unknown_members() {
+        Developer retired = Developer.builder()
+                .memberId("member1")
+                .name("name")
+                .statusCode(RETIRED)
+                .build();
+        given(developerStore.findDetailsByMemberIdIn(anyCollection()))
+                .willReturn(List.of(projectionFactory.createProjection(DeveloperDetailView.class, retired)));
+
+        RetireDevelopers.ChunkResult result =
+                dMakerService.retireDevelopers(List.of("member1", "unknown"));
+
+        assertEquals(0, result.getRetiredCount());
+        assertEquals(1, result.getAlreadyRetiredCount());
+        assertEquals(1, result.getNotFoundCount());
+        verify(retiredDeveloperStore, never()).archiveAll(any());
+    }
+
+    @Test
+    void retireDevelopers_archives_only_rows_it_deleted() {
+        Developer deleted = Developer.builder()
+                .id(2L)
+                .memberId("member2")
+                .developerLevel(SENIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(MIN_SENIOR_EXPERIENCE_YEARS)
+                .statusCode(EMPLOYED)
+                .build();
+        given(developerStore.deleteEmployed(List.of("member1", "member2"))).willReturn(List.of(deleted));
+        given(retiredDeveloperStore.findRetiredMemberIdsByMemberIdIn(List.of("member1")))
+                .willReturn(List.of("member1"));
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE)).willReturn(new ConcurrentMapCache(DEVELOPER_DETAIL_CACHE));
+        ArgumentCaptor<List<RetiredDeveloper>> captor = ArgumentCaptor.forClass(List.class);
+
+        RetireDevelopers.ChunkResult result = dMakerService.retireDevelopers(List.of("member1", "member2"));
+
+        assertEquals(1, result.getRetiredCount());
+        assertEquals(1, result.getAlreadyRetiredCount());
+        assertEquals(0, result.getNotFoundCount());
+        verify(retiredDeveloperStore).archiveAll(captor.capture());
+        assertEquals(List.of("member2"), captor.getValue().stream().map(RetiredDeveloper::getMemberId).toList());
+        verify(developerStatistics, times(1)).retired(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        verify(developerEventService, times(1)).record(eq(DeveloperEventType.RETIRED), eq("member2"),
+                any(), any(), any(), eq(RETIRED));
+    }
+
+    @Test
+    void searchDevelopers_rejects_retired_status() {
+        SearchDeveloper.Request request = SearchDeveloper.Request.builder().statusCode(RETIRED).build();
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.searchDevelopers(request));
+
+        assertEquals(INVALID_REQUEST, exception.getDMakerErrorCode());
+        verify(developerStore, never()).search(any());
+    }
+
+    @Test
+    void deleteDeveloper_moves_snapshot_to_archive() {
+        given(developerStore.findByMemberId("member1"))
+                .willReturn(Optional.of(defaultDeveloper));
+        ArgumentCaptor<RetiredDeveloper> captor = ArgumentCaptor.forClass(RetiredDeveloper.class);
+
+        DeveloperDetailDto dto = dMakerService.deleteDeveloper("member1");
+
+        verify(retiredDeveloperStore).archive(captor.capture());
+        verify(developerStore).delete(defaultDeveloper);
+        RetiredDeveloper archived = captor.getValue();
+        assertEquals("member1", archived.getMemberId());
+        assertEquals(SENIOR, archived.getDeveloperLevel());
+        assertEquals(MIN_SENIOR_EXPERIENCE_YEARS, archived.getExperienceYears());
+        assertEquals(RETIRED, dto.getStatusCode());
+    }
+
+    @Test
+    void deleteDeveloper_does_not_archive_legacy_retired_row_twice() {
+        Developer legacy = Developer.builder()
+                .memberId("member1")
+                .developerLevel(SENIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(MIN_SENIOR_EXPERIENCE_YEARS)
+                .statusCode(RETIRED)
+                .build();
+        given(developerStore.findByMemberId("member1")).willReturn(Optional.of(legacy));
+        given(retiredDeveloperStore.isRetired("member1")).willReturn(true);
+
+        dMakerService.deleteDeveloper("member1");
+
+        verify(developerStore).delete(legacy);
+        verify(retiredDeveloperStore, never()).archive(any());
+        verify(developerStatistics, never()).retired(any(), any(), any());
+    }
+
+    @Test
+    void rehireDeveloper_restores_archived_snapshot() {
+        RetiredDeveloper archived = RetiredDeveloper.builder()
+                .memberId("member1")
+                .name("name")
+                .age(30)
+                .developerLevel(SENIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(MIN_SENIOR_EXPERIENCE_YEARS)
+                .build();
+        given(retiredDeveloperStore.findRetiredByMemberId("member1"))
+                .willReturn(Optional.of(archived));
+        given(developerStore.create(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        DeveloperDetailDto dto = dMakerService.rehireDeveloper("member1");
+
+        assertEquals(EMPLOYED, dto.getStatusCode());
+        assertEquals(SENIOR, dto.getDeveloperLevel());
+        assertNotNull(archived.getRehiredAt());
+        verify(retiredDeveloperStore).update(archived);
+        verify(developerStatistics).rehired(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+    }
+
+    @Test
+    void rehireDeveloper_fail_without_archive() {
+        given(retiredDeveloperStore.findRetiredByMemberId("member1"))
+                .willReturn(Optional.empty());
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.rehireDeveloper("member1"));
+        assertEquals(NO_RETIRED_DEVELOPER, exception.getDMakerErrorCode());
+    }
+
+    @Test
+    void editDeveloper_fail_with_stale_version() {
+        given(developerStore.findByMemberId(anyString()))
+                .willReturn(Optional.of(Developer.builder()
+                        .memberId("member1")
+                        .developerLevel(SENIOR)
+                        .version(4L)
+                        .build()));
+        EditDeveloper.Request request = EditDeveloper.Request.builder()
+                .developerLevel(JUNIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(MAX_JUNIOR_EXPERIENCE_YEARS)
+                .build();
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper("member1", request, Set.of(3L)));
+        assertEquals(DEVELOPER_VERSION_CONFLICT, exception.getDMakerErrorCode());
+        verify(developerStore, never()).update(any());
+    }
+
     @Test
     void createDeveloper_fail_with_unmatched_level() {
         DMakerException exception = assertThrows(DMakerException.class,
@@ -0,0 +1,57 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.DeveloperStatisticsDto;
+import com.fastcampus.dmaker.store.DeveloperStore;
+import com.fastcampus.dmaker.store.RetiredDeveloperStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperStatisticsTest {
+
+    @Mock
+    private DeveloperStore developerStore;
+
+    @Mock
+    private RetiredDeveloperStore retiredDeveloperStore;
+
+    @InjectMocks
+    private DeveloperStatistics developerStatistics;
+
+    @Test
+    void counters_follow_create_edit_retire() {
+        developerStatistics.created(JUNIOR, FRONT_END, 2);
+        developerStatistics.created(SENIOR, BACK_END, 12);
+        developerStatistics.edited(JUNIOR, FRONT_END, 2, JUNIOR, BACK_END, 4);
+        developerStatistics.retired(SENIOR, BACK_END, 12);
+
+        DeveloperStatisticsDto statistics = developerStatistics.getStatistics();
+
+        assertEquals(1, statistics.getEmployedCount());
+        assertEquals(1, statistics.getRetiredCount());
+        assertEquals(4.0, statistics.getAverageExperienceYears());
+        assertEquals(0L, statistics.getEmployedCountByLevelAndSkill().get(JUNIOR).get(FRONT_END));
+        assertEquals(1L, statistics.getEmployedCountByLevelAndSkill().get(JUNIOR).get(BACK_END));
+        assertEquals(0L, statistics.getEmployedCountByLevelAndSkill().get(SENIOR).get(BACK_END));
+    }
+
+    @Test
+    void missing_experience_years_count_as_zero() {
+        developerStatistics.created(JUNIOR, FRONT_END, null);
+        developerStatistics.edited(JUNIOR, FRONT_END, null, JUNIOR, BACK_END, 3);
+
+        DeveloperStatisticsDto statistics = developerStatistics.getStatistics();
+
+        assertEquals(1, statistics.getEmployedCount());
+        assertEquals(3.0, statistics.getAverageExperienceYears());
+    }
+}
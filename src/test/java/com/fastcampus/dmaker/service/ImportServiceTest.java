@@ -0,0 +1,109 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.dmaker.dto.CreateDeveloper;
+import com.fastcampus.dmaker.dto.ImportDevelopers;
+import com.fastcampus.dmaker.type.FileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    private static final String HEADER = "memberId,name,age,developerLevel,developerSkillType,experienceYears\n";
+
+    @Mock
+    private DMakerService dMakerService;
+
+    @TempDir
+    Path directory;
+
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(dMakerService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), directory, 2);
+        given(dMakerService.createDevelopers(anyList())).willAnswer(invocation -> {
+            List<CreateDeveloper.Request> requests = invocation.getArgument(0);
+            return BulkCreateDeveloper.Response.builder()
+                    .createdCount(requests.size())
+                    .results(requests.stream()
+                            .map(request -> BulkCreateDeveloper.Result.created(request.getMemberId()))
+                            .toList())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void rejected_rows_go_to_error_report() throws IOException {
+        String csv = HEADER
+                + "junior_dev,Junior,28,JUNIOR,FRONT_END,2\n"
+                + "mismatch,Mismatch,30,SENIOR,BACK_END,2\n"
+                + "too_young,Young,15,JUNIOR,BACK_END,2\n"
+                + "bad_level,BadLevel,30,MASTER,BACK_END,2\n";
+
+        ImportDevelopers.Response response = importService.importDevelopers("seed", FileFormat.CSV, stream(csv));
+
+        assertEquals(5, response.getLastLine());
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(3, response.getFailedCount());
+        List<String> report = Files.readAllLines(directory.resolve("seed.errors.csv"));
+        assertEquals(4, report.size());
+        assertTrue(report.get(1).startsWith("3,mismatch,LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,"));
+        assertTrue(report.get(2).startsWith("4,too_young,INVALID_REQUEST,age "));
+        assertTrue(report.get(3).startsWith("5,,INVALID_REQUEST,"));
+    }
+
+    @Test
+    void resumes_after_checkpoint() throws IOException {
+        Files.writeString(directory.resolve("seed.checkpoint"), "3,2,0");
+        String ndjson = """
+                {"memberId":"first","name":"First","age":30,"developerLevel":"JUNIOR","developerSkillType":"BACK_END","experienceYears":2}
+                {"memberId":"second","name":"Second","age":30,"developerLevel":"JUNIOR","developerSkillType":"BACK_END","experienceYears":2}
+
+                {"memberId":"third","name":"Third","age":30,"developerLevel":"JUNIOR","developerSkillType":"BACK_END","experienceYears":2}
+                """;
+
+        ImportDevelopers.Response response = importService.importDevelopers("seed", FileFormat.NDJSON, stream(ndjson));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateDeveloper.Request>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dMakerService).createDevelopers(captor.capture());
+        assertEquals(List.of("third"), captor.getValue().stream().map(CreateDeveloper.Request::getMemberId).toList());
+        assertEquals(3, response.getResumedFromLine());
+        assertEquals(4, response.getLastLine());
+        assertEquals(3, response.getCreatedCount());
+        assertEquals("4,3,0", Files.readString(directory.resolve("seed.checkpoint")));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.code.RetirementStatus;
+import com.fastcampus.dmaker.dto.RetireDevelopers;
+import com.fastcampus.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_RETIREMENT_BATCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RetirementServiceTest {
+
+    @Mock
+    private DMakerService dMakerService;
+
+    private RetirementService retirementService;
+
+    @AfterEach
+    void tearDown() {
+        if (retirementService != null) retirementService.shutdown();
+    }
+
+    @Test
+    void running_batch_does_not_expire_and_finished_batch_does() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(dMakerService.retireDevelopers(anyCollection())).willAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return new RetireDevelopers.ChunkResult(1, 0, 0);
+        });
+        retirementService = new RetirementService(dMakerService, 10, Duration.ZERO);
+
+        String batchId = retirementService.submit(List.of("member1")).getBatchId();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(RetirementStatus.RUNNING, retirementService.getBatch(batchId).getStatus());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            try {
+                retirementService.getBatch(batchId);
+                Thread.sleep(1);
+            } catch (DMakerException e) {
+                assertEquals(NO_RETIREMENT_BATCH, e.getDMakerErrorCode());
+                return;
+            }
+        }
+        assertThrows(DMakerException.class, () -> retirementService.getBatch(batchId));
+    }
+}
@@ -0,0 +1,93 @@
+package com.fastcampus.dmaker.service;
+
+import com.fastcampus.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void concurrent_callers_share_one_load() throws Exception {
+        List<Future<String>> results = callConcurrently(() -> {
+            loads.incrementAndGet();
+            release.await();
+            return "value";
+        });
+
+        for (Future<String> result : results) assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void failure_is_shared_and_next_call_loads_again() throws Exception {
+        DMakerException failure = DMakerException.of(NO_DEVELOPER);
+
+        List<Future<String>> results = callConcurrently(() -> {
+            loads.incrementAndGet();
+            release.await();
+            throw failure;
+        });
+
+        for (Future<String> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("value", singleFlight.execute("member1", () -> "value"));
+    }
+
+    /**
+     * CALLERS 개의 호출을 같은 key 로 시작하고, 나머지 호출이 모두 첫 호출의 결과를 기다리게 된 뒤에 loader 를 풀어 준다.
+     */
+    private List<Future<String>> callConcurrently(Callable<String> loader) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> singleFlight.execute("member1", () -> {
+                    try {
+                        return loader.call();
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.waiterCount("member1") < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(CALLERS - 1, singleFlight.waiterCount("member1"));
+            release.countDown();
+            return futures;
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.dto.SearchDeveloper;
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.repository.projection.DeveloperSummary;
+import com.fastcampus.dmaker.type.DeveloperLevel;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fastcampus.dmaker.code.StatusCode.EMPLOYED;
+import static com.fastcampus.dmaker.code.StatusCode.RETIRED;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.fastcampus.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.fastcampus.dmaker.type.DeveloperLevel.SENIOR;
+import static com.fastcampus.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryDeveloperStoreTest {
+
+    private final InMemoryDeveloperStore store = new InMemoryDeveloperStore();
+
+    private Developer developer(String memberId, DeveloperLevel level, int experienceYears) {
+        return Developer.builder()
+                .memberId(memberId)
+                .name(memberId)
+                .age(30)
+                .developerLevel(level)
+                .developerSkillType(BACK_END)
+                .experienceYears(experienceYears)
+                .statusCode(EMPLOYED)
+                .build();
+    }
+
+    @Test
+    void create_assigns_id_and_rejects_duplicated_member_id() {
+        Developer created = store.create(developer("member1", JUNIOR, 1));
+
+        assertNotNull(created.getId());
+        assertEquals(0L, created.getVersion());
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> store.create(developer("member1", SENIOR, 12)));
+        assertEquals(DUPLICATED_MEMBER_ID, exception.getDMakerErrorCode());
+        assertEquals(JUNIOR, store.findByMemberId("member1").orElseThrow().getDeveloperLevel());
+    }
+
+    @Test
+    void createAll_with_conflicting_member_id_saves_nothing() {
+        store.create(developer("member2", SENIOR, 12));
+
+        DMakerException exception = assertThrows(DMakerException.class, () -> store.createAll(
+                List.of(developer("member1", JUNIOR, 1), developer("member2", JUNIOR, 1))));
+
+        assertEquals(DUPLICATED_MEMBER_ID, exception.getDMakerErrorCode());
+        assertTrue(store.findByMemberId("member1").isEmpty());
+        assertEquals(SENIOR, store.findByMemberId("member2").orElseThrow().getDeveloperLevel());
+    }
+
+    @Test
+    void concurrent_create_of_same_member_id_keeps_one() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger duplicated = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        store.create(developer("member1", JUNIOR, 1));
+                    } catch (DMakerException e) {
+                        duplicated.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads - 1, duplicated.get());
+        assertEquals(1L, store.findCollectionVersion(EMPLOYED).getDeveloperCount());
+    }
+
+    @Test
+    void update_fails_on_stale_copy() {
+        store.create(developer("member1", JUNIOR, 1));
+        Developer first = store.findByMemberId("member1").orElseThrow();
+        Developer second = store.findByMemberId("member1").orElseThrow();
+
+        first.setExperienceYears(2);
+        store.update(first);
+        second.setExperienceYears(3);
+
+        DMakerException exception = assertThrows(DMakerException.class, () -> store.update(second));
+        assertEquals(DEVELOPER_VERSION_CONFLICT, exception.getDMakerErrorCode());
+        assertEquals(1L, first.getVersion());
+        assertEquals(2, store.findByMemberId("member1").orElseThrow().getExperienceYears());
+    }
+
+    @Test
+    void status_index_follows_retire_and_cursor() {
+        store.create(developer("member1", JUNIOR, 1));
+        store.create(developer("member2", JUNIOR, 2));
+        store.create(developer("member3", SENIOR, 12));
+        Developer retired = store.findByMemberId("member2").orElseThrow();
+        retired.setStatusCode(RETIRED);
+        store.update(retired);
+
+        assertEquals(List.of("member1"), store.deleteEmployed(List.of("member1", "member2", "unknown")).stream()
+                .map(Developer::getMemberId)
+                .toList());
+        assertEquals(List.of(), store.deleteEmployed(List.of("member1")));
+
+        List<DeveloperSummary> employed = store.findByStatusCodeAfter(EMPLOYED, 0L, 10);
+        assertEquals(List.of("member3"), employed.stream().map(DeveloperSummary::getMemberId).toList());
+        assertEquals(1L, store.findCollectionVersion(EMPLOYED).getDeveloperCount());
+        assertEquals(1L, store.findCollectionVersion(RETIRED).getDeveloperCount());
+        assertFalse(store.existsByMemberId("member1"));
+    }
+
+    @Test
+    void search_filters_sorts_and_pages() {
+        store.create(developer("member1", JUNIOR, 3));
+        store.create(developer("member2", SENIOR, 12));
+        store.create(developer("member3", JUNIOR, 1));
+        store.create(developer("member4", JUNIOR, 3));
+        SearchDeveloper.Request request = SearchDeveloper.Request.builder()
+                .developerLevel(JUNIOR)
+                .sort("experienceYears")
+                .direction(Sort.Direction.DESC)
+                .size(2)
+                .build();
+
+        Page<Developer> page = store.search(request);
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("member1", "member4"), page.map(Developer::getMemberId).getContent());
+        request.setPage(1);
+        assertEquals(List.of("member3"), store.search(request).map(Developer::getMemberId).getContent());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.dmaker.store;
+
+import com.fastcampus.dmaker.entity.Developer;
+import com.fastcampus.dmaker.exception.DMakerException;
+import com.fastcampus.dmaker.repository.DeveloperRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class JpaDeveloperStoreTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private JpaDeveloperStore jpaDeveloperStore;
+
+    @Test
+    void create_maps_member_id_constraint_to_duplicated() {
+        given(developerRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("duplicated",
+                        new ConstraintViolationException("duplicated", null,
+                                Developer.MEMBER_ID_UNIQUE_CONSTRAINT)));
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> jpaDeveloperStore.create(Developer.builder().memberId("member1").build()));
+        assertEquals(DUPLICATED_MEMBER_ID, exception.getDMakerErrorCode());
+    }
+
+    @Test
+    void update_maps_optimistic_lock_failure_to_version_conflict() {
+        willThrow(new OptimisticLockingFailureException("stale")).given(developerRepository).flush();
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> jpaDeveloperStore.update(Developer.builder().memberId("member1").build()));
+        assertEquals(DEVELOPER_VERSION_CONFLICT, exception.getDMakerErrorCode());
+    }
+}
@@ -0,0 +1,39 @@
+package com.fastcampus.dmaker.type;
+
+import com.fastcampus.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.Test;
+
+import static com.fastcampus.dmaker.constant.DMakerConstant.MAX_JUNIOR_EXPERIENCE_YEARS;
+import static com.fastcampus.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
+import static com.fastcampus.dmaker.exception.DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+import static com.fastcampus.dmaker.type.DeveloperLevel.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperLevelTest {
+
+    @Test
+    void validateExperienceYears_boundaries() {
+        assertDoesNotThrow(() -> NEW.validateExperienceYears(0));
+        assertDoesNotThrow(() -> JUNIOR.validateExperienceYears(MAX_JUNIOR_EXPERIENCE_YEARS));
+        assertDoesNotThrow(() -> JUNGNIOR.validateExperienceYears(MAX_JUNIOR_EXPERIENCE_YEARS + 1));
+        assertDoesNotThrow(() -> SENIOR.validateExperienceYears(MIN_SENIOR_EXPERIENCE_YEARS));
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> JUNGNIOR.validateExperienceYears(MIN_SENIOR_EXPERIENCE_YEARS));
+        assertEquals(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, exception.getDMakerErrorCode());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    /**
+     * 실패 경로는 미리 만든 예외를 그대로 던진다. 할당량 자체는 ValidationBenchmark 의 gc.alloc.rate.norm 으로 본다.
+     */
+    @Test
+    void validateExperienceYears_reuses_preallocated_exception() {
+        DMakerException first = assertThrows(DMakerException.class,
+                () -> JUNIOR.validateExperienceYears(MIN_SENIOR_EXPERIENCE_YEARS));
+        DMakerException second = assertThrows(DMakerException.class,
+                () -> SENIOR.validateExperienceYears(MAX_JUNIOR_EXPERIENCE_YEARS));
+
+        assertSame(first, second);
+    }
+}